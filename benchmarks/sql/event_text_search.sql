@@ -0,0 +1,46 @@
+-- Public event text search over 1M events, with and without the trigram indexes from main schema.sql.
+-- Run against a scratch database: psql -d ewm-bench -f benchmarks/sql/event_text_search.sql
+\timing on
+
+DROP TABLE IF EXISTS bench_events;
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE TABLE bench_events AS
+SELECT id,
+       'Annotation ' || md5(id::text) || ' concert festival meetup ' || (id % 1000) AS annotation,
+       repeat('Description ' || md5((id * 7)::text) || ' ', 40)                   AS description,
+       CASE WHEN id % 10 = 0 THEN 'PENDING' ELSE 'PUBLISHED' END                  AS state,
+       now() + (id % 365) * INTERVAL '1 day'                                        AS event_date
+FROM generate_series(1, 1000000) AS id;
+ANALYZE bench_events;
+
+-- Sequential scan: what every text query did before the indexes
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT id FROM bench_events
+WHERE state = 'PUBLISHED'
+  AND (LOWER(annotation) LIKE '%5d41402a%' OR LOWER(description) LIKE '%5d41402a%')
+  AND event_date > now()
+LIMIT 10;
+
+CREATE INDEX bench_events_annotation_trgm_idx ON bench_events USING GIN (LOWER(annotation) gin_trgm_ops);
+CREATE INDEX bench_events_description_trgm_idx ON bench_events USING GIN (LOWER(description) gin_trgm_ops);
+ANALYZE bench_events;
+
+-- Bitmap OR of both trigram indexes
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT id FROM bench_events
+WHERE state = 'PUBLISHED'
+  AND (LOWER(annotation) LIKE '%5d41402a%' OR LOWER(description) LIKE '%5d41402a%')
+  AND event_date > now()
+LIMIT 10;
+
+-- sort=RELEVANCE
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT id FROM bench_events
+WHERE state = 'PUBLISHED'
+  AND (LOWER(annotation) LIKE '%festival%' OR LOWER(description) LIKE '%festival%')
+  AND event_date > now()
+ORDER BY word_similarity('festival', LOWER(annotation)) DESC, event_date, id
+LIMIT 10;
+
+DROP TABLE bench_events;
@@ -0,0 +1,50 @@
+package ru.practicum.benchmarks;
+
+import ru.practicum.ewm.categories.Category;
+import ru.practicum.ewm.events.model.Event;
+import ru.practicum.ewm.events.model.State;
+import ru.practicum.ewm.locations.Location;
+import ru.practicum.ewm.users.User;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Detached events shaped like a page of the public search, shared by the benchmarks.
+ */
+final class EventFixtures {
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+    private EventFixtures() {
+    }
+
+    static List<Event> events(int count) {
+        List<Event> events = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            Category category = new Category((long) (i % 20), "Category " + (i % 20));
+            User initiator = new User((long) (i % 100), "User " + (i % 100), "user" + (i % 100) + "@mail.ru");
+            Location location = new Location(55.75f, 37.62f);
+            location.setId((long) i);
+            events.add(Event.builder()
+                    .id((long) i)
+                    .annotation("Annotation of event " + i + " with enough text to look like a real one")
+                    .category(category)
+                    .createdOn(NOW.minusDays(30))
+                    .description("Description of event " + i + ". " + "Lorem ipsum dolor sit amet. ".repeat(20))
+                    .eventDate(NOW.plusDays(i % 60))
+                    .initiator(initiator)
+                    .location(location)
+                    .paid(i % 2 == 0)
+                    .participantLimit(i % 3 == 0 ? 0 : 100)
+                    .publishedOn(NOW.minusDays(10))
+                    .requestModeration(true)
+                    .state(State.PUBLISHED)
+                    .title("Event " + i)
+                    .views((long) i * 10)
+                    .confirmedRequests((long) i % 100)
+                    .build());
+        }
+        return events;
+    }
+}
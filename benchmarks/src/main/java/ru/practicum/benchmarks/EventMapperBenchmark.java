@@ -0,0 +1,60 @@
+package ru.practicum.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.practicum.ewm.events.EventMapper;
+import ru.practicum.ewm.events.dto.EventFullDtoWithViews;
+import ru.practicum.ewm.events.dto.EventShortDtoWithViews;
+import ru.practicum.ewm.events.model.Event;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Maps a page of events to the DTOs returned by the public and admin searches.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventMapperBenchmark {
+    @Param({"10", "100", "1000"})
+    private int events;
+
+    private List<Event> page;
+
+    @Setup
+    public void setUp() {
+        page = EventFixtures.events(events);
+    }
+
+    @Benchmark
+    public List<EventShortDtoWithViews> shortDtos() {
+        List<EventShortDtoWithViews> result = new ArrayList<>(page.size());
+        for (Event event : page) {
+            result.add(EventMapper.toEventShortDtoWithViews(event, event.getViews(), event.getConfirmedRequests()));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<EventFullDtoWithViews> fullDtos() {
+        List<EventFullDtoWithViews> result = new ArrayList<>(page.size());
+        for (Event event : page) {
+            result.add(EventMapper.toEventFullDtoWithViews(event, event.getViews(), event.getConfirmedRequests()));
+        }
+        return result;
+    }
+}
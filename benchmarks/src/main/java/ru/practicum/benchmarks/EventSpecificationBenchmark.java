@@ -0,0 +1,85 @@
+package ru.practicum.benchmarks;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.practicum.ewm.categories.Category;
+import ru.practicum.ewm.events.EventSpecifications;
+import ru.practicum.ewm.events.model.Event;
+import ru.practicum.ewm.locations.Location;
+import ru.practicum.ewm.users.User;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Builds the criteria predicates of the public and admin event searches with all filters set. Hibernate
+ * is bootstrapped against an empty in-memory H2 database only to get a {@link CriteriaBuilder}; no query
+ * is executed.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventSpecificationBenchmark {
+    private static final LocalDateTime START = LocalDateTime.of(2025, 1, 1, 0, 0);
+    private static final LocalDateTime END = START.plusMonths(6);
+    private static final List<Long> CATEGORIES = List.of(1L, 2L, 3L, 4L, 5L);
+    private static final List<Long> USERS = List.of(10L, 11L, 12L);
+    private static final List<String> STATES = List.of("PUBLISHED", "PENDING");
+
+    private SessionFactory sessionFactory;
+    private CriteriaBuilder cb;
+
+    @Setup
+    public void setUp() {
+        sessionFactory = new Configuration()
+                .addAnnotatedClass(Event.class)
+                .addAnnotatedClass(Category.class)
+                .addAnnotatedClass(User.class)
+                .addAnnotatedClass(Location.class)
+                .setProperty(AvailableSettings.JAKARTA_JDBC_URL, "jdbc:h2:mem:benchmarks")
+                .setProperty(AvailableSettings.HBM2DDL_AUTO, "none")
+                .buildSessionFactory();
+        cb = sessionFactory.getCriteriaBuilder();
+    }
+
+    @TearDown
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    public Predicate publicSearch() {
+        CriteriaQuery<Event> query = cb.createQuery(Event.class);
+        Root<Event> root = query.from(Event.class);
+        return EventSpecifications.forPublic("concert", CATEGORIES, true, START, END, true)
+                .toPredicate(root, query, cb);
+    }
+
+    @Benchmark
+    public Predicate adminSearch() {
+        CriteriaQuery<Event> query = cb.createQuery(Event.class);
+        Root<Event> root = query.from(Event.class);
+        return EventSpecifications.forAdmin(USERS, STATES, CATEGORIES, START, END)
+                .toPredicate(root, query, cb);
+    }
+}
@@ -0,0 +1,86 @@
+package ru.practicum.benchmarks;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.practicum.AsyncStatClient;
+import ru.practicum.ewm.events.dto.EventShortDtoWithViews;
+import ru.practicum.ewm.events.model.Event;
+import ru.practicum.ewm.events.service.EventStatServiceImpl;
+import ru.practicum.ewm.stats.StatsCircuitBreaker;
+import ru.practicum.ewm.stats.ViewsCache;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Joins a page of events with their views and confirmed requests in {@link EventStatServiceImpl}.
+ * {@code cached} serves every view count from {@link ViewsCache}; {@code loaded} misses the cache on every
+ * call and takes the counts from a stats client stub that answers immediately, so only the join itself
+ * is measured, not the stats-server.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventStatsBenchmark {
+    @Param({"10", "100", "1000"})
+    private int events;
+
+    private List<Event> page;
+    private EventStatServiceImpl cachedService;
+    private EventStatServiceImpl loadingService;
+
+    @Setup
+    public void setUp() {
+        page = EventFixtures.events(events);
+        Map<String, Long> views = new HashMap<>();
+        page.forEach(event -> views.put("/events/" + event.getId(), event.getViews()));
+
+        cachedService = new EventStatServiceImpl(null, viewsCache(views, Duration.ofHours(1)));
+        loadingService = new EventStatServiceImpl(null, viewsCache(views, Duration.ZERO));
+        cachedService.getShortEventsWithStats(page);
+    }
+
+    @Benchmark
+    public List<EventShortDtoWithViews> cached() {
+        return cachedService.getShortEventsWithStats(page);
+    }
+
+    @Benchmark
+    public List<EventShortDtoWithViews> loaded() {
+        return loadingService.getShortEventsWithStats(page);
+    }
+
+    private static ViewsCache viewsCache(Map<String, Long> views, Duration ttl) {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        AsyncStatClient statClient = new AsyncStatClient(null, Duration.ofSeconds(5)) {
+            @Override
+            public CompletableFuture<Map<String, Long>> getViews(LocalDateTime start, LocalDateTime end,
+                                                                 List<String> uris, Boolean unique,
+                                                                 Boolean approximate) {
+                return CompletableFuture.completedFuture(views);
+            }
+        };
+        StatsCircuitBreaker circuitBreaker = new StatsCircuitBreaker(meterRegistry, 5, Duration.ofSeconds(30),
+                Clock.systemUTC());
+        return new ViewsCache(statClient, circuitBreaker, meterRegistry, false, ttl, 10_000, 100_000);
+    }
+}
@@ -0,0 +1,57 @@
+package ru.practicum.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.practicum.ewm.events.EventMapper;
+import ru.practicum.ewm.events.dto.EventShortDtoWithViews;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serializes a page of {@link EventShortDtoWithViews} the way the public search response is written,
+ * with a mapper configured like the one Spring Boot provides.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PageSerializationBenchmark {
+    private static final ObjectMapper MAPPER = JsonMapper.builder()
+            .findAndAddModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    @Param({"10", "100", "1000"})
+    private int events;
+
+    private List<EventShortDtoWithViews> page;
+
+    @Setup
+    public void setUp() {
+        page = EventFixtures.events(events).stream()
+                .map(event -> EventMapper.toEventShortDtoWithViews(event, event.getViews(),
+                        event.getConfirmedRequests()))
+                .toList();
+    }
+
+    @Benchmark
+    public byte[] shortDtoPage() throws JsonProcessingException {
+        return MAPPER.writeValueAsBytes(page);
+    }
+}
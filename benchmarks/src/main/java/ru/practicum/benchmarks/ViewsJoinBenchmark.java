@@ -0,0 +1,81 @@
+package ru.practicum.benchmarks;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.practicum.ViewStats;
+import ru.practicum.ViewsExtractor;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Joins a page of events with their views from a {@code /stats} response body.
+ * {@code objectPerEvent} is the former path: body read as {@code Object}, then converted again with a new
+ * {@link ObjectMapper} for every event; {@code streamedMap} reads the body once into hits keyed by uri.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ViewsJoinBenchmark {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    @Param({"10", "100", "1000"})
+    private int events;
+
+    private byte[] body;
+    private long[] eventIds;
+
+    @Setup
+    public void setUp() throws IOException {
+        List<ViewStats> stats = new ArrayList<>(events);
+        eventIds = new long[events];
+        for (int i = 0; i < events; i++) {
+            eventIds[i] = i + 1;
+            stats.add(new ViewStats("ewm-main-service", "/events/" + (i + 1), (long) (events - i)));
+        }
+        body = MAPPER.writeValueAsBytes(stats);
+    }
+
+    @Benchmark
+    public long objectPerEvent() throws IOException {
+        Object response = MAPPER.readValue(body, Object.class);
+        long total = 0;
+        for (long eventId : eventIds) {
+            List<ViewStats> stats = new ObjectMapper().convertValue(response, new TypeReference<>() {});
+            total += stats.stream()
+                    .filter(stat -> stat.getUri().equals("/events/" + eventId))
+                    .findFirst()
+                    .map(ViewStats::getHits)
+                    .orElse(0L);
+        }
+        return total;
+    }
+
+    @Benchmark
+    public long streamedMap() throws IOException {
+        Map<String, Long> views = ViewsExtractor.read(new ByteArrayInputStream(body));
+        long total = 0;
+        for (long eventId : eventIds) {
+            total += views.getOrDefault("/events/" + eventId, 0L);
+        }
+        return total;
+    }
+}
@@ -0,0 +1,21 @@
+package ru.practicum.logging;
+
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Adds the per-request summary line to every servlet application that has this module on its classpath.
+ * Sampling itself is wired by the {@code logback-spring.xml} shipped with the module.
+ */
+@AutoConfiguration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class RequestLoggingAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public RequestSummaryFilter requestSummaryFilter() {
+        return new RequestSummaryFilter();
+    }
+}
@@ -0,0 +1,40 @@
+package ru.practicum.logging;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Logs one INFO line per request with method, path, status and duration in microseconds. Controllers and
+ * services log their details at DEBUG, which {@link SamplingTurboFilter} can thin out per package. Registered
+ * by {@link RequestLoggingAutoConfiguration}.
+ */
+@Slf4j
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RequestSummaryFilter extends OncePerRequestFilter {
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !log.isInfoEnabled() || request.getRequestURI().startsWith("/actuator");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        long start = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            long durationMicros = (System.nanoTime() - start) / 1_000;
+            log.info("method={} uri={} status={} duration_us={}",
+                    request.getMethod(), request.getRequestURI(), response.getStatus(), durationMicros);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package ru.practicum.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Passes only every n-th TRACE or DEBUG event of the configured logger prefixes, given as
+ * {@code logging.sampling.rates=ru.practicum.a=100,ru.practicum.a.b=10}. The longest matching prefix wins and
+ * each prefix has one counter. INFO and above are never sampled, so per-request summaries are always written.
+ * Level checks such as {@code isDebugEnabled()} are not sampled either, so guarded blocks still run and only
+ * their log calls are thinned out.
+ */
+public class SamplingTurboFilter extends TurboFilter {
+    private static final Sampler ALL = new Sampler(1);
+
+    private Map<String, Sampler> samplersByPrefix = Map.of();
+    private final ConcurrentMap<String, Sampler> samplersByLogger = new ConcurrentHashMap<>();
+
+    public void setRates(String rates) {
+        Map<String, Sampler> samplers = new HashMap<>();
+        for (String entry : rates.split(",")) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            String[] parts = entry.split("=");
+            if (parts.length != 2) {
+                addError("Expected prefix=rate in logging.sampling.rates, got: " + entry);
+                continue;
+            }
+            samplers.put(parts[0].trim(), new Sampler(Integer.parseInt(parts[1].trim())));
+        }
+        samplersByPrefix = Map.copyOf(samplers);
+        samplersByLogger.clear();
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params,
+                              Throwable t) {
+        if (format == null || level.isGreaterOrEqual(Level.INFO)
+                || !level.isGreaterOrEqual(logger.getEffectiveLevel())) {
+            return FilterReply.NEUTRAL;
+        }
+        Sampler sampler = samplersByLogger.computeIfAbsent(logger.getName(), this::samplerFor);
+        return sampler.accept() ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+
+    private Sampler samplerFor(String loggerName) {
+        String name = loggerName;
+        while (true) {
+            Sampler sampler = samplersByPrefix.get(name);
+            if (sampler != null) {
+                return sampler;
+            }
+            int dot = name.lastIndexOf('.');
+            if (dot < 0) {
+                return ALL;
+            }
+            name = name.substring(0, dot);
+        }
+    }
+
+    private record Sampler(int rate, AtomicLong counter) {
+        Sampler(int rate) {
+            this(rate, new AtomicLong());
+        }
+
+        boolean accept() {
+            return rate <= 1 || counter.getAndIncrement() % rate == 0;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package ru.practicum.logging;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.boot.test.context.runner.WebApplicationContextRunner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestLoggingAutoConfigurationTest {
+    private static final AutoConfigurations CONFIGURATIONS =
+            AutoConfigurations.of(RequestLoggingAutoConfiguration.class);
+
+    @Test
+    void registersSummaryFilterInServletApplications() {
+        new WebApplicationContextRunner()
+                .withConfiguration(CONFIGURATIONS)
+                .run(context -> assertThat(context).hasSingleBean(RequestSummaryFilter.class));
+    }
+
+    @Test
+    void skipsNonWebApplications() {
+        new ApplicationContextRunner()
+                .withConfiguration(CONFIGURATIONS)
+                .run(context -> assertThat(context).doesNotHaveBean(RequestSummaryFilter.class));
+    }
+}
@@ -0,0 +1,54 @@
+package ru.practicum.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SamplingTurboFilterTest {
+    private final LoggerContext context = new LoggerContext();
+    private final SamplingTurboFilter filter = new SamplingTurboFilter();
+    private Logger logger;
+
+    @BeforeEach
+    void setUp() {
+        logger = context.getLogger("ru.practicum.sample.Service");
+        logger.setLevel(Level.TRACE);
+        filter.setRates("ru.practicum=10");
+    }
+
+    @Test
+    void debugAndTraceAreSampled() {
+        assertThat(passed(Level.DEBUG, 100)).isEqualTo(10);
+        assertThat(passed(Level.TRACE, 100)).isEqualTo(10);
+    }
+
+    @Test
+    void infoAndAboveAreNeverSampled() {
+        assertThat(passed(Level.INFO, 100)).isEqualTo(100);
+        assertThat(passed(Level.WARN, 100)).isEqualTo(100);
+        assertThat(passed(Level.ERROR, 100)).isEqualTo(100);
+    }
+
+    @Test
+    void loggersOutsideConfiguredPrefixesAreNotSampled() {
+        logger = context.getLogger("org.example.Service");
+        logger.setLevel(Level.DEBUG);
+
+        assertThat(passed(Level.DEBUG, 100)).isEqualTo(100);
+    }
+
+    private int passed(Level level, int events) {
+        int passed = 0;
+        for (int i = 0; i < events; i++) {
+            if (filter.decide(null, logger, level, "message", null, null) != FilterReply.DENY) {
+                passed++;
+            }
+        }
+        return passed;
+    }
+}
@@ -0,0 +1,64 @@
+package ru.practicum.tracing;
+
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.ProxyMethodInvocation;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.data.repository.Repository;
+import org.springframework.util.ClassUtils;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Opens a child span around every repository call made inside a trace, so a request's trace shows its
+ * database time next to its other calls. Calls outside a trace, from schedulers and warm-ups, are not traced.
+ * Which beans count as repositories is decided by the pointcut of {@link TracingAutoConfiguration}.
+ */
+public class RepositoryTracingInterceptor implements MethodInterceptor {
+    private final Supplier<Tracer> tracer;
+    private final ConcurrentMap<Class<?>, String> repositoryNames = new ConcurrentHashMap<>();
+
+    public RepositoryTracingInterceptor(Supplier<Tracer> tracer) {
+        this.tracer = tracer;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Tracer tracer = this.tracer.get();
+        if (tracer == null || tracer.currentSpan() == null) {
+            return invocation.proceed();
+        }
+        Object proxy = invocation instanceof ProxyMethodInvocation proxyInvocation
+                ? proxyInvocation.getProxy()
+                : invocation.getThis();
+        String repository = repositoryNames.computeIfAbsent(proxy.getClass(),
+                type -> repositoryName(proxy, invocation.getThis()));
+        String method = invocation.getMethod().getName();
+        Span span = tracer.nextSpan()
+                .name(repository + "." + method)
+                .tag("repository", repository)
+                .tag("method", method)
+                .start();
+        try (Tracer.SpanInScope ignored = tracer.withSpan(span)) {
+            return invocation.proceed();
+        } catch (Throwable e) {
+            span.error(e);
+            throw e;
+        } finally {
+            span.end();
+        }
+    }
+
+    private static String repositoryName(Object proxy, Object target) {
+        return Arrays.stream(AopProxyUtils.proxiedUserInterfaces(proxy))
+                .filter(Repository.class::isAssignableFrom)
+                .findFirst()
+                .map(Class::getSimpleName)
+                .orElseGet(() -> ClassUtils.getUserClass(target).getSimpleName());
+    }
+}
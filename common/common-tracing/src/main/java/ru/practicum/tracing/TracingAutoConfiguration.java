@@ -0,0 +1,55 @@
+package ru.practicum.tracing;
+
+import io.micrometer.tracing.Tracer;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.aspectj.AspectJExpressionPointcut;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.tracing.MicrometerTracingAutoConfiguration;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.util.function.SingletonSupplier;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Span exporters and repository spans shared by the services. Repository calls are matched by the AspectJ
+ * expression in {@code tracing.repositories.pointcut}; the default covers Spring Data repositories, and a
+ * service with hand-written {@code @Repository} classes widens it.
+ */
+@AutoConfiguration(after = MicrometerTracingAutoConfiguration.class)
+public class TracingAutoConfiguration {
+    static final String DEFAULT_REPOSITORIES_POINTCUT = "this(org.springframework.data.repository.Repository)";
+
+    @Bean
+    @ConditionalOnProperty("tracing.export.file")
+    public FileSpanExporter fileSpanExporter(@Value("${tracing.export.file}") Path path) throws IOException {
+        return new FileSpanExporter(path);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "tracing.export.in-memory.enabled", havingValue = "true")
+    public InMemorySpanExporter inMemorySpanExporter(
+            @Value("${tracing.export.in-memory.capacity:10000}") int capacity) {
+        return new InMemorySpanExporter(capacity);
+    }
+
+    /**
+     * The tracer is looked up on first use: advisors are created while post-processors are still being
+     * registered, too early to pull in the tracing beans.
+     */
+    @Bean
+    @ConditionalOnBean(Tracer.class)
+    public static Advisor repositoryTracingAdvisor(
+            ObjectProvider<Tracer> tracer,
+            @Value("${tracing.repositories.pointcut:" + DEFAULT_REPOSITORIES_POINTCUT + "}") String expression) {
+        AspectJExpressionPointcut pointcut = new AspectJExpressionPointcut();
+        pointcut.setExpression(expression);
+        return new DefaultPointcutAdvisor(pointcut,
+                new RepositoryTracingInterceptor(SingletonSupplier.of(tracer::getIfAvailable)));
+    }
+}
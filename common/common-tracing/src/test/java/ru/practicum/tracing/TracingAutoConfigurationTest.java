@@ -0,0 +1,76 @@
+package ru.practicum.tracing;
+
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import io.micrometer.tracing.otel.bridge.OtelCurrentTraceContext;
+import io.micrometer.tracing.otel.bridge.OtelTracer;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.aop.AopAutoConfiguration;
+import org.springframework.boot.test.context.assertj.AssertableApplicationContext;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TracingAutoConfigurationTest {
+    private final InMemorySpanExporter exporter = new InMemorySpanExporter(100);
+    private final Tracer tracer = new OtelTracer(
+            SdkTracerProvider.builder()
+                    .addSpanProcessor(SimpleSpanProcessor.create(exporter))
+                    .build()
+                    .get("test"),
+            new OtelCurrentTraceContext(), event -> {
+            });
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(AopAutoConfiguration.class, TracingAutoConfiguration.class))
+            .withBean(Tracer.class, () -> tracer)
+            .withBean(HitRepository.class);
+
+    @Test
+    void defaultPointcutLeavesPlainRepositoriesAlone() {
+        contextRunner.run(context -> assertThat(spanNames(context)).containsExactly("request"));
+    }
+
+    @Test
+    void widenedPointcutTracesPlainRepositories() {
+        contextRunner
+                .withPropertyValues("tracing.repositories.pointcut="
+                        + TracingAutoConfiguration.DEFAULT_REPOSITORIES_POINTCUT
+                        + " || @within(org.springframework.stereotype.Repository)")
+                .run(context -> assertThat(spanNames(context)).containsExactly("HitRepository.count", "request"));
+    }
+
+    @Test
+    void callsOutsideTraceAreNotTraced() {
+        contextRunner
+                .withPropertyValues("tracing.repositories.pointcut=@within(org.springframework.stereotype.Repository)")
+                .run(context -> {
+                    context.getBean(HitRepository.class).count();
+
+                    assertThat(exporter.getFinishedSpans()).isEmpty();
+                });
+    }
+
+    private List<String> spanNames(AssertableApplicationContext context) {
+        Span request = tracer.nextSpan().name("request").start();
+        try (Tracer.SpanInScope ignored = tracer.withSpan(request)) {
+            context.getBean(HitRepository.class).count();
+        } finally {
+            request.end();
+        }
+        return exporter.getFinishedSpans().stream().map(SpanData::getName).toList();
+    }
+
+    @Repository
+    static class HitRepository {
+        long count() {
+            return 0;
+        }
+    }
+}
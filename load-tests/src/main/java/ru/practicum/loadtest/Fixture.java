@@ -0,0 +1,9 @@
+package ru.practicum.loadtest;
+
+import java.util.List;
+
+/**
+ * Ids created by {@link Seeder}; every event is published.
+ */
+public record Fixture(List<Long> userIds, List<Long> categoryIds, List<Long> eventIds) {
+}
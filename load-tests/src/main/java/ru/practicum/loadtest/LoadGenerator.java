@@ -0,0 +1,71 @@
+package ru.practicum.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-loop generator: requests are sent on a fixed schedule at the target rate, each on its own virtual
+ * thread, regardless of how many are still in flight. Requests scheduled during the warmup are sent but not
+ * recorded.
+ */
+@Slf4j
+public class LoadGenerator {
+    private final HttpClient httpClient;
+    private final Traffic traffic;
+
+    public LoadGenerator(HttpClient httpClient, Traffic traffic) {
+        this.httpClient = httpClient;
+        this.traffic = traffic;
+    }
+
+    public Map<Scenario, ScenarioStats> run(LoadTestOptions options) {
+        Map<Scenario, ScenarioStats> stats = new EnumMap<>(Scenario.class);
+        options.mix().keySet().forEach(scenario -> stats.put(scenario, new ScenarioStats(scenario)));
+
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / options.rate();
+        long start = System.nanoTime();
+        long measureFrom = start + options.warmup().toNanos();
+        long end = measureFrom + options.duration().toNanos();
+        boolean measuring = false;
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long intended = start; intended < end; intended += intervalNanos) {
+                long wait = intended - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                if (!measuring && intended >= measureFrom) {
+                    measuring = true;
+                    SqlStatementCounter.reset();
+                    log.info("Warmup done, measuring for {}", options.duration());
+                }
+                Scenario scenario = traffic.nextScenario();
+                ScenarioStats scenarioStats = measuring ? stats.get(scenario) : null;
+                long intendedStart = intended;
+                executor.execute(() -> send(scenario, intendedStart, scenarioStats));
+            }
+        }
+        return stats;
+    }
+
+    private void send(Scenario scenario, long intendedStart, ScenarioStats stats) {
+        int status;
+        try {
+            status = httpClient.send(traffic.request(scenario), HttpResponse.BodyHandlers.discarding()).statusCode();
+        } catch (Exception e) {
+            log.debug("{} failed: {}", scenario, e.toString());
+            status = -1;
+        }
+        if (stats != null) {
+            stats.record(intendedStart, System.nanoTime(), status);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package ru.practicum.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import ru.practicum.ewm.EwmMain;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.Executors;
+
+/**
+ * Boots the stats server and the main service in-process on in-memory H2, seeds data through the API and
+ * replays a weighted mix of public search, event detail, participation request and comment traffic at a
+ * target rate. Prints throughput, latency percentiles and SQL statements per request for every endpoint and
+ * writes full HdrHistogram percentile distributions to {@code <out>/<scenario>.hgrm}.
+ */
+@Slf4j
+public class LoadTest {
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+
+        try (ConfigurableApplicationContext stats = new SpringApplicationBuilder(StatsServerConfiguration.class)
+                .run("--spring.config.name=loadtest-stats");
+             ConfigurableApplicationContext main = new SpringApplicationBuilder(EwmMain.class,
+                     LoadTestMainConfiguration.class)
+                     .run("--spring.config.name=loadtest-main", "--client.url=http://localhost:" + port(stats))) {
+            String baseUrl = "http://localhost:" + port(main);
+            HttpClient httpClient = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .executor(Executors.newVirtualThreadPerTaskExecutor())
+                    .build();
+
+            Fixture fixture = new Seeder(httpClient, new ObjectMapper(), baseUrl).seed(options);
+            log.info("Replaying {} at {} req/s for {} after {} warmup",
+                    options.mix(), options.rate(), options.duration(), options.warmup());
+            Map<Scenario, ScenarioStats> results = new LoadGenerator(httpClient,
+                    new Traffic(baseUrl, fixture, options.mix())).run(options);
+
+            report(results, SqlStatementCounter.snapshot(), options, System.out);
+            writeHistograms(results, options.out());
+        }
+    }
+
+    private static int port(ConfigurableApplicationContext context) {
+        return ((WebServerApplicationContext) context).getWebServer().getPort();
+    }
+
+    static void report(Map<Scenario, ScenarioStats> results, Map<String, Long> sqlCounts, LoadTestOptions options,
+                       PrintStream out) {
+        double seconds = options.duration().toMillis() / 1000.0;
+        out.printf("%n%-40s %8s %8s %8s %8s %8s %8s %8s %8s %8s %8s %8s%n", "endpoint", "requests", "ok",
+                "conflict", "errors", "rps", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms", "sql/req");
+        results.values().forEach(stats -> {
+            Histogram latency = stats.getLatency();
+            long total = stats.total();
+            long sql = sqlCounts.getOrDefault(stats.getScenario().key(), 0L);
+            out.printf("%-40s %8d %8d %8d %8d %8.1f %8.2f %8.2f %8.2f %8.2f %8.2f %8.2f%n",
+                    stats.getScenario().getEndpoint(), total, stats.getOk().sum(), stats.getConflicts().sum(),
+                    stats.getErrors().sum(), total / seconds,
+                    millis(latency.getValueAtPercentile(50)), millis(latency.getValueAtPercentile(90)),
+                    millis(latency.getValueAtPercentile(99)), millis(latency.getValueAtPercentile(99.9)),
+                    millis(latency.getMaxValue()), total == 0 ? 0.0 : (double) sql / total);
+        });
+        out.printf("%nSQL statements outside tagged requests %s: %d%n", SqlStatementCounter.BACKGROUND,
+                sqlCounts.getOrDefault(SqlStatementCounter.BACKGROUND, 0L));
+    }
+
+    private static void writeHistograms(Map<Scenario, ScenarioStats> results, Path out) throws IOException {
+        Files.createDirectories(out);
+        for (ScenarioStats stats : results.values()) {
+            Path file = out.resolve(stats.getScenario().key() + ".hgrm");
+            try (PrintStream stream = new PrintStream(Files.newOutputStream(file))) {
+                stats.getLatency().outputPercentileDistribution(stream, 1000.0);
+            }
+        }
+        log.info("Latency histograms (ms) written to {}", out.toAbsolutePath());
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+}
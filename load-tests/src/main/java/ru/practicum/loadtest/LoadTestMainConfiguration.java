@@ -0,0 +1,46 @@
+package ru.practicum.loadtest;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Added to the main service context by the harness: binds the scenario header to the serving thread for
+ * {@link SqlStatementCounter}.
+ */
+@Configuration(proxyBeanMethods = false)
+public class LoadTestMainConfiguration {
+
+    @Bean
+    public ScenarioFilter scenarioFilter() {
+        return new ScenarioFilter();
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    static class ScenarioFilter extends OncePerRequestFilter {
+
+        @Override
+        protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                        FilterChain filterChain) throws ServletException, IOException {
+            String scenario = request.getHeader(Scenario.HEADER);
+            if (scenario == null) {
+                filterChain.doFilter(request, response);
+                return;
+            }
+            SqlStatementCounter.setScenario(scenario);
+            try {
+                filterChain.doFilter(request, response);
+            } finally {
+                SqlStatementCounter.clearScenario();
+            }
+        }
+    }
+}
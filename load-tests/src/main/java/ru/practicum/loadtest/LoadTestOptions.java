@@ -0,0 +1,66 @@
+package ru.practicum.loadtest;
+
+import org.springframework.boot.convert.DurationStyle;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Harness options, given as {@code --key=value} arguments, e.g.
+ * {@code --rate=200 --duration=1m --mix=search:70,detail:30}.
+ */
+public record LoadTestOptions(int rate,
+                              Duration duration,
+                              Duration warmup,
+                              int users,
+                              int categories,
+                              int events,
+                              Map<Scenario, Integer> mix,
+                              Path out) {
+    private static final String DEFAULT_MIX = "search:60,detail:25,request:10,comment:5";
+
+    public static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --key=value, got: " + arg);
+            }
+            int separator = arg.indexOf('=');
+            values.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        LoadTestOptions options = new LoadTestOptions(
+                Integer.parseInt(values.getOrDefault("rate", "100")),
+                DurationStyle.detectAndParse(values.getOrDefault("duration", "30s")),
+                DurationStyle.detectAndParse(values.getOrDefault("warmup", "5s")),
+                Integer.parseInt(values.getOrDefault("users", "200")),
+                Integer.parseInt(values.getOrDefault("categories", "10")),
+                Integer.parseInt(values.getOrDefault("events", "500")),
+                parseMix(values.getOrDefault("mix", DEFAULT_MIX)),
+                Path.of(values.getOrDefault("out", "target/load-test")));
+        if (options.rate <= 0 || options.users < 2 || options.categories <= 0 || options.events <= 0) {
+            throw new IllegalArgumentException("rate, categories and events must be positive, users at least 2");
+        }
+        return options;
+    }
+
+    private static Map<Scenario, Integer> parseMix(String mix) {
+        Map<Scenario, Integer> weights = new EnumMap<>(Scenario.class);
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Expected scenario:weight in mix, got: " + entry);
+            }
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight > 0) {
+                weights.put(Scenario.fromKey(parts[0]), weight);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("Mix must contain at least one scenario with a positive weight");
+        }
+        return weights;
+    }
+}
@@ -0,0 +1,30 @@
+package ru.practicum.loadtest;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Locale;
+
+@Getter
+@RequiredArgsConstructor
+public enum Scenario {
+    SEARCH("GET /events"),
+    DETAIL("GET /events/{id}"),
+    REQUEST("POST /users/{userId}/requests"),
+    COMMENT("POST /users/{userId}/comments/{eventId}");
+
+    /**
+     * Header that tags a replayed request with its scenario, so the SQL it triggers can be attributed.
+     */
+    public static final String HEADER = "X-Load-Scenario";
+
+    private final String endpoint;
+
+    public String key() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+
+    public static Scenario fromKey(String key) {
+        return valueOf(key.trim().toUpperCase(Locale.ROOT));
+    }
+}
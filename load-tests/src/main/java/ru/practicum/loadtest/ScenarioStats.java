@@ -0,0 +1,43 @@
+package ru.practicum.loadtest;
+
+import lombok.Getter;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Outcomes and latency of one scenario. Latency is in microseconds and taken from the intended send time, so
+ * queueing behind a slow service is part of it (no coordinated omission).
+ */
+@Getter
+public class ScenarioStats {
+    private static final long MAX_LATENCY_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final Scenario scenario;
+    private final Histogram latency = new ConcurrentHistogram(MAX_LATENCY_MICROS, 3);
+    private final LongAdder ok = new LongAdder();
+    private final LongAdder conflicts = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+
+    public ScenarioStats(Scenario scenario) {
+        this.scenario = scenario;
+    }
+
+    public void record(long intendedStartNanos, long endNanos, int status) {
+        latency.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(endNanos - intendedStartNanos),
+                MAX_LATENCY_MICROS));
+        if (status / 100 == 2) {
+            ok.increment();
+        } else if (status == 409) {
+            conflicts.increment();
+        } else {
+            errors.increment();
+        }
+    }
+
+    public long total() {
+        return latency.getTotalCount();
+    }
+}
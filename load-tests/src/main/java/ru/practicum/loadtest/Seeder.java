@@ -0,0 +1,95 @@
+package ru.practicum.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Seeds the main service through its admin and private API, the same way the Postman collection does.
+ */
+@Slf4j
+public class Seeder {
+    static final List<String> TOPICS = List.of("jazz", "museum", "hiking", "theatre", "lecture", "festival",
+            "cinema", "chess", "yoga", "poetry", "cycling", "photography");
+
+    private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final String baseUrl;
+    private final Random random = new Random(42);
+
+    public Seeder(HttpClient httpClient, ObjectMapper objectMapper, String baseUrl) {
+        this.httpClient = httpClient;
+        this.objectMapper = objectMapper;
+        this.baseUrl = baseUrl;
+    }
+
+    public Fixture seed(LoadTestOptions options) throws IOException, InterruptedException {
+        List<Long> categoryIds = new ArrayList<>();
+        for (int i = 0; i < options.categories(); i++) {
+            categoryIds.add(post("/admin/categories", Map.of("name", "category-" + i)));
+        }
+        List<Long> userIds = new ArrayList<>();
+        for (int i = 0; i < options.users(); i++) {
+            userIds.add(post("/admin/users", Map.of("name", "user-" + i, "email", "user-" + i + "@load.test")));
+        }
+        List<Long> eventIds = new ArrayList<>();
+        for (int i = 0; i < options.events(); i++) {
+            Long initiatorId = userIds.get(random.nextInt(userIds.size()));
+            Long eventId = post("/users/" + initiatorId + "/events", newEvent(i, categoryIds));
+            send(HttpRequest.newBuilder(URI.create(baseUrl + "/admin/events/" + eventId))
+                    .method("PATCH", body(Map.of("stateAction", "PUBLISH_EVENT"))));
+            eventIds.add(eventId);
+        }
+        log.info("Seeded {} categories, {} users and {} published events",
+                categoryIds.size(), userIds.size(), eventIds.size());
+        return new Fixture(List.copyOf(userIds), List.copyOf(categoryIds), List.copyOf(eventIds));
+    }
+
+    private Map<String, Object> newEvent(int index, List<Long> categoryIds) {
+        String topic = TOPICS.get(random.nextInt(TOPICS.size()));
+        String otherTopic = TOPICS.get(random.nextInt(TOPICS.size()));
+        return Map.of(
+                "annotation", "Event " + index + ": an evening of " + topic + " and " + otherTopic,
+                "category", categoryIds.get(random.nextInt(categoryIds.size())),
+                "description", "A longer description of event " + index + " about " + topic + " for everyone.",
+                "eventDate", LocalDateTime.now().plusDays(1 + random.nextInt(90)).format(DATE_TIME),
+                "location", Map.of("lat", 55.0 + random.nextDouble(), "lon", 37.0 + random.nextDouble()),
+                "paid", random.nextBoolean(),
+                "participantLimit", random.nextInt(4) == 0 ? 0 : 10 + random.nextInt(40),
+                "requestModeration", random.nextBoolean(),
+                "title", "Event " + index + " (" + topic + ")");
+    }
+
+    private Long post(String path, Object payload) throws IOException, InterruptedException {
+        JsonNode created = send(HttpRequest.newBuilder(URI.create(baseUrl + path)).POST(body(payload)));
+        return created.get("id").asLong();
+    }
+
+    private HttpRequest.BodyPublisher body(Object payload) throws IOException {
+        return HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(payload));
+    }
+
+    private JsonNode send(HttpRequest.Builder request) throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = httpClient.send(request.header("Content-Type", "application/json").build(),
+                HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() / 100 != 2) {
+            throw new IllegalStateException("Seeding " + response.request().method() + " " + response.uri()
+                    + " failed with " + response.statusCode() + ": " + new String(response.body()));
+        }
+        return objectMapper.readTree(response.body());
+    }
+}
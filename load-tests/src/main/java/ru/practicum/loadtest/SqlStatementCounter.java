@@ -0,0 +1,45 @@
+package ru.practicum.loadtest;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts the statements Hibernate prepares in the main service, per scenario of the request being served.
+ * Statements issued outside a tagged request thread (async view lookups, schedulers) are counted as
+ * {@link #BACKGROUND}. Hibernate instantiates the inspector itself, hence the static state.
+ */
+public class SqlStatementCounter implements StatementInspector {
+    public static final String BACKGROUND = "(background)";
+
+    private static final ThreadLocal<String> SCENARIO = new ThreadLocal<>();
+    private static final Map<String, LongAdder> COUNTS = new ConcurrentHashMap<>();
+
+    @Override
+    public String inspect(String sql) {
+        String scenario = SCENARIO.get();
+        COUNTS.computeIfAbsent(scenario == null ? BACKGROUND : scenario, key -> new LongAdder()).increment();
+        return sql;
+    }
+
+    static void setScenario(String scenario) {
+        SCENARIO.set(scenario);
+    }
+
+    static void clearScenario() {
+        SCENARIO.remove();
+    }
+
+    static void reset() {
+        COUNTS.clear();
+    }
+
+    static Map<String, Long> snapshot() {
+        Map<String, Long> snapshot = new TreeMap<>();
+        COUNTS.forEach((scenario, count) -> snapshot.put(scenario, count.sum()));
+        return snapshot;
+    }
+}
@@ -0,0 +1,27 @@
+package ru.practicum.loadtest;
+
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.orm.jpa.persistenceunit.PersistenceManagedTypes;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import ru.practicum.EndpointHit;
+
+/**
+ * Boots the stats server next to the main service. {@code StatsServer} scans all of {@code ru.practicum},
+ * which would pull the main service's beans and entities into this context, so the scan is narrowed here.
+ */
+@EnableScheduling
+@SpringBootConfiguration
+@EnableAutoConfiguration
+@ComponentScan({"ru.practicum.server", "ru.practicum.exceptions"})
+@EnableJpaRepositories("ru.practicum.server")
+public class StatsServerConfiguration {
+
+    @Bean
+    public PersistenceManagedTypes persistenceManagedTypes() {
+        return PersistenceManagedTypes.of(EndpointHit.class.getName());
+    }
+}
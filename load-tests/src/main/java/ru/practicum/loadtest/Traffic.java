@@ -0,0 +1,82 @@
+package ru.practicum.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Builds the replayed requests: picks a scenario by its weight in the mix and fills it with random seeded ids.
+ */
+public class Traffic {
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    private final String baseUrl;
+    private final Fixture fixture;
+    private final Scenario[] scenarios;
+    private final int[] cumulativeWeights;
+
+    public Traffic(String baseUrl, Fixture fixture, Map<Scenario, Integer> mix) {
+        this.baseUrl = baseUrl;
+        this.fixture = fixture;
+        this.scenarios = mix.keySet().toArray(Scenario[]::new);
+        this.cumulativeWeights = new int[scenarios.length];
+        int total = 0;
+        for (int i = 0; i < scenarios.length; i++) {
+            total += mix.get(scenarios[i]);
+            cumulativeWeights[i] = total;
+        }
+    }
+
+    public Scenario nextScenario() {
+        int point = ThreadLocalRandom.current().nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (point < cumulativeWeights[i]) {
+                return scenarios[i];
+            }
+        }
+        throw new IllegalStateException("Unreachable: point " + point + " is outside the mix");
+    }
+
+    public HttpRequest request(Scenario scenario) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        HttpRequest.Builder builder = switch (scenario) {
+            case SEARCH -> {
+                StringBuilder uri = new StringBuilder("/events?from=0&size=10&sort=EVENT_DATE&text=")
+                        .append(pick(Seeder.TOPICS, random));
+                if (random.nextBoolean()) {
+                    uri.append("&categories=").append(pick(fixture.categoryIds(), random));
+                }
+                if (random.nextInt(4) == 0) {
+                    uri.append("&paid=").append(random.nextBoolean());
+                }
+                yield get(uri.toString());
+            }
+            case DETAIL -> get("/events/" + pick(fixture.eventIds(), random));
+            case REQUEST -> post("/users/" + pick(fixture.userIds(), random) + "/requests?eventId="
+                    + pick(fixture.eventIds(), random), HttpRequest.BodyPublishers.noBody());
+            case COMMENT -> post("/users/" + pick(fixture.userIds(), random) + "/comments/"
+                            + pick(fixture.eventIds(), random),
+                    HttpRequest.BodyPublishers.ofString("{\"text\":\"Load test comment " + random.nextLong() + "\"}"));
+        };
+        return builder.header(Scenario.HEADER, scenario.key())
+                .timeout(TIMEOUT)
+                .build();
+    }
+
+    private HttpRequest.Builder get(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).GET();
+    }
+
+    private HttpRequest.Builder post(String path, HttpRequest.BodyPublisher body) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json")
+                .POST(body);
+    }
+
+    private static <T> T pick(List<T> values, ThreadLocalRandom random) {
+        return values.get(random.nextInt(values.size()));
+    }
+}
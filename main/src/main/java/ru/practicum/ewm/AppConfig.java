@@ -1,15 +1,42 @@
 package ru.practicum.ewm;
 
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import ru.practicum.AsyncStatClient;
+import ru.practicum.StatClient;
 import ru.practicum.ewm.events.EventRepository;
 import ru.practicum.ewm.events.service.EventInfoService;
 import ru.practicum.ewm.events.service.EventInfoServiceImpl;
 
+import java.time.Clock;
+
+/**
+ * Application wiring kept off {@link EwmMain}, so test slices such as {@code @DataJpaTest} do not pull in
+ * the stats client or the schedulers.
+ */
 @Configuration
+@EnableScheduling
+@Import({StatClient.class, AsyncStatClient.class})
 public class AppConfig {
     @Bean
     public EventInfoService eventInfoService(EventRepository eventRepository) {
         return new EventInfoServiceImpl(eventRepository);
     }
+
+    /**
+     * Times methods of {@code @Timed} beans; tags are class, method and exception ("none" on success).
+     */
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+
+    @Bean
+    public Clock clock() {
+        return Clock.systemUTC();
+    }
 }
\ No newline at end of file
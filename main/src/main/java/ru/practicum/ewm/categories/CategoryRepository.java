@@ -1,7 +1,10 @@
 package ru.practicum.ewm.categories;
 
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 public interface CategoryRepository extends JpaRepository<Category, Long> {
+    Slice<Category> findAllBy(Pageable pageable);
 }
@@ -27,26 +27,26 @@ public class CategoryControllerAdmin {
     @PostMapping
     @ResponseStatus(value = HttpStatus.CREATED)
     public CategoryDto addCategory(@RequestBody @Valid NewCategoryDto newCategoryDto) {
-        log.info("Adding new category: {}", newCategoryDto);
+        log.debug("Adding new category: {}", newCategoryDto);
         CategoryDto createdCategory = categoryService.addCategory(newCategoryDto);
-        log.info("Category successfully added: {}", createdCategory);
+        log.debug("Category successfully added: {}", createdCategory);
         return createdCategory;
     }
 
     @PatchMapping("/{catId}")
     @ResponseStatus(HttpStatus.OK)
     public CategoryDto updateCategory(@PathVariable Long catId, @RequestBody @Valid CategoryDto categoryDto) {
-        log.info("Updating category with ID={}, new data: {}", catId, categoryDto);
+        log.debug("Updating category with ID={}, new data: {}", catId, categoryDto);
         CategoryDto updatedCategory = categoryService.updateCategory(catId, categoryDto);
-        log.info("Category successfully updated: {}", updatedCategory);
+        log.debug("Category successfully updated: {}", updatedCategory);
         return updatedCategory;
     }
 
     @DeleteMapping("/{catId}")
     @ResponseStatus(value = HttpStatus.NO_CONTENT)
     public void deleteCategory(@PathVariable Long catId) {
-        log.info("Deleting category with ID={}", catId);
+        log.debug("Deleting category with ID={}", catId);
         categoryService.deleteCategory(catId);
-        log.info("Category with ID={} successfully deleted", catId);
+        log.debug("Category with ID={} successfully deleted", catId);
     }
 }
\ No newline at end of file
@@ -30,18 +30,18 @@ public class CategoryControllerPublic {
     public List<CategoryDto> getCategories(
             @RequestParam(value = "from", defaultValue = "0") @PositiveOrZero Integer from,
             @RequestParam(value = "size", defaultValue = "10") @Positive Integer size) {
-        log.info("Requesting categories list: from={}, size={}", from, size);
+        log.debug("Requesting categories list: from={}, size={}", from, size);
         List<CategoryDto> categories = categoryService.getCategories(from, size);
-        log.info("Found {} categories", categories.size());
+        log.debug("Found {} categories", categories.size());
         return categories;
     }
 
     @GetMapping("/{categoryId}")
     @ResponseStatus(HttpStatus.OK)
     public CategoryDto getCategoryById(@PathVariable Long categoryId) {
-        log.info("Requesting category by ID={}", categoryId);
+        log.debug("Requesting category by ID={}", categoryId);
         CategoryDto category = categoryService.getCategoryById(categoryId);
-        log.info("Category found: {}", category);
+        log.debug("Category found: {}", category);
         return category;
     }
 }
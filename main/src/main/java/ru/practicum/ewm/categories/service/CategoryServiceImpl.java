@@ -3,6 +3,7 @@ package ru.practicum.ewm.categories.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -11,6 +12,7 @@ import ru.practicum.ewm.categories.CategoryMapper;
 import ru.practicum.ewm.categories.CategoryRepository;
 import ru.practicum.ewm.categories.dto.CategoryDto;
 import ru.practicum.ewm.categories.dto.NewCategoryDto;
+import ru.practicum.ewm.compilations.CompilationsChangedEvent;
 import ru.practicum.ewm.exceptions.NotFoundException;
 
 import java.util.List;
@@ -22,10 +24,11 @@ import java.util.stream.Collectors;
 @Transactional
 public class CategoryServiceImpl implements CategoryService {
     private final CategoryRepository categoryRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public CategoryDto addCategory(NewCategoryDto newCategoryDto) {
-        log.info("Adding new category: {}", newCategoryDto);
+        log.debug("Adding new category: {}", newCategoryDto);
         CategoryDto savedCategory = CategoryMapper.toCategoryDto(
                 categoryRepository.save(CategoryMapper.toCategory(newCategoryDto))
         );
@@ -35,9 +38,10 @@ public class CategoryServiceImpl implements CategoryService {
 
     @Override
     public CategoryDto updateCategory(Long categoryId, CategoryDto categoryDto) {
-        log.info("Updating category ID={}, data: {}", categoryId, categoryDto);
+        log.debug("Updating category ID={}, data: {}", categoryId, categoryDto);
         Category category = getCategory(categoryId);
         category.setName(categoryDto.getName());
+        eventPublisher.publishEvent(CompilationsChangedEvent.any());
         CategoryDto updatedCategory = CategoryMapper.toCategoryDto(category);
         log.info("Category updated: {}", updatedCategory);
         return updatedCategory;
@@ -46,26 +50,26 @@ public class CategoryServiceImpl implements CategoryService {
     @Override
     @Transactional(readOnly = true)
     public List<CategoryDto> getCategories(Integer from, Integer size) {
-        log.info("Getting categories (from={}, size={})", from, size);
-        List<CategoryDto> categories = categoryRepository.findAll(PageRequest.of(from / size, size)).stream()
+        log.debug("Getting categories (from={}, size={})", from, size);
+        List<CategoryDto> categories = categoryRepository.findAllBy(PageRequest.of(from / size, size)).stream()
                 .map(CategoryMapper::toCategoryDto)
                 .collect(Collectors.toList());
-        log.info("Found {} categories", categories.size());
+        log.debug("Found {} categories", categories.size());
         return categories;
     }
 
     @Override
     @Transactional(readOnly = true)
     public CategoryDto getCategoryById(Long categoryId) {
-        log.info("Getting category with ID={}", categoryId);
+        log.debug("Getting category with ID={}", categoryId);
         CategoryDto category = CategoryMapper.toCategoryDto(getCategory(categoryId));
-        log.info("Category with ID={} successfully found", category);
+        log.debug("Category with ID={} successfully found", category);
         return category;
     }
 
     @Override
     public void deleteCategory(Long categoryId) {
-        log.info("Deleting category with ID={}", categoryId);
+        log.debug("Deleting category with ID={}", categoryId);
         if (!categoryRepository.existsById(categoryId)) {
             throw new NotFoundException("Category with id=" + categoryId + " was not found");
         }
@@ -22,8 +22,8 @@ public class CommentControllerAdmin {
     @DeleteMapping("/{commentId}")
     @ResponseStatus(value = HttpStatus.NO_CONTENT)
     public void deleteComment(@PathVariable Long commentId) {
-        log.info("Admin request to delete comment with ID: {}", commentId);
+        log.debug("Admin request to delete comment with ID: {}", commentId);
         commentService.deleteComment(commentId);
-        log.info("Comment with ID: {} successfully deleted by admin", commentId);
+        log.debug("Comment with ID: {} successfully deleted by admin", commentId);
     }
 }
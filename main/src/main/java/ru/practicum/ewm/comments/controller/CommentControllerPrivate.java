@@ -37,9 +37,9 @@ public class CommentControllerPrivate {
     public CommentDto addComment(@PathVariable Long userId,
                                  @PathVariable Long eventId,
                                  @RequestBody @Valid NewCommentDto newCommentDto) {
-        log.info("User {} adding comment to event {}", userId, eventId);
+        log.debug("User {} adding comment to event {}", userId, eventId);
         CommentDto result = commentService.addComment(userId, eventId, newCommentDto);
-        log.info("User {} successfully added comment with ID {} to event {}", userId, result.getId(), eventId);
+        log.debug("User {} successfully added comment with ID {} to event {}", userId, result.getId(), eventId);
         return result;
     }
 
@@ -48,9 +48,9 @@ public class CommentControllerPrivate {
                                     @PathVariable Long eventId,
                                     @PathVariable Long commentId,
                                     @RequestBody @Valid NewCommentDto newCommentDto) {
-        log.info("User {} updating comment {} for event {}", userId, commentId, eventId);
+        log.debug("User {} updating comment {} for event {}", userId, commentId, eventId);
         CommentDto result = commentService.updateComment(userId, eventId, commentId, newCommentDto);
-        log.info("User {} successfully updated comment {} for event {}", userId, commentId, eventId);
+        log.debug("User {} successfully updated comment {} for event {}", userId, commentId, eventId);
         return result;
     }
 
@@ -58,9 +58,9 @@ public class CommentControllerPrivate {
     List<CommentDto> getCommentsByAuthor(@PathVariable Long userId,
                                          @RequestParam(value = "from", defaultValue = "0") @PositiveOrZero Integer from,
                                          @RequestParam(value = "size", defaultValue = "10") @Positive Integer size) {
-        log.info("Fetching comments by user {} with pagination (from={}, size={})", userId, from, size);
+        log.debug("Fetching comments by user {} with pagination (from={}, size={})", userId, from, size);
         List<CommentDto> result = commentService.getCommentsByAuthor(userId, from, size);
-        log.info("Found {} comments for user {}", result.size(), userId);
+        log.debug("Found {} comments for user {}", result.size(), userId);
         return result;
     }
 
@@ -68,8 +68,8 @@ public class CommentControllerPrivate {
     @ResponseStatus(value = HttpStatus.NO_CONTENT)
     public void deleteComment(@PathVariable Long userId,
                               @PathVariable Long commentId) {
-        log.info("User {} requesting to delete comment {}", userId, commentId);
+        log.debug("User {} requesting to delete comment {}", userId, commentId);
         commentService.deleteComment(userId, commentId);
-        log.info("User {} successfully deleted comment {}", userId, commentId);
+        log.debug("User {} successfully deleted comment {}", userId, commentId);
     }
 }
@@ -23,17 +23,17 @@ public class CommentControllerPublic {
     List<CommentDto> getComments(@PathVariable Long eventId,
                                  @RequestParam(value = "from", defaultValue = "0") @PositiveOrZero Integer from,
                                  @RequestParam(value = "size", defaultValue = "10") @Positive Integer size) {
-        log.info("Requesting comments for event {} with pagination (from={}, size={})", eventId, from, size);
+        log.debug("Requesting comments for event {} with pagination (from={}, size={})", eventId, from, size);
         List<CommentDto> result = commentService.getComments(eventId, from, size);
-        log.info("Found {} comments for event {}", result.size(), eventId);
+        log.debug("Found {} comments for event {}", result.size(), eventId);
         return result;
     }
 
     @GetMapping("/{commentId}")
     CommentDto getCommentById(@PathVariable Long commentId) {
-        log.info("Requesting comment with ID: {}", commentId);
+        log.debug("Requesting comment with ID: {}", commentId);
         CommentDto result = commentService.getCommentById(commentId);
-        log.info("Successfully retrieved comment {} for event {}", commentId, result.getEvent().getId());
+        log.debug("Successfully retrieved comment {} for event {}", commentId, result.getEvent().getId());
         return result;
     }
 }
\ No newline at end of file
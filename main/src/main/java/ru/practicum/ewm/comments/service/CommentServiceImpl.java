@@ -1,5 +1,6 @@
 package ru.practicum.ewm.comments.service;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
@@ -16,7 +17,6 @@ import ru.practicum.ewm.events.model.Event;
 import ru.practicum.ewm.events.service.EventService;
 import ru.practicum.ewm.exceptions.NotFoundException;
 import ru.practicum.ewm.exceptions.ValidationException;
-import ru.practicum.ewm.requests.service.RequestService;
 import ru.practicum.ewm.users.User;
 import ru.practicum.ewm.users.UserMapper;
 import ru.practicum.ewm.users.dto.UserShortDto;
@@ -25,7 +25,6 @@ import ru.practicum.ewm.users.service.UserService;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 import java.util.stream.Collectors;
 
 import static ru.practicum.ewm.events.model.State.PUBLISHED;
@@ -34,15 +33,15 @@ import static ru.practicum.ewm.events.model.State.PUBLISHED;
 @Service
 @RequiredArgsConstructor
 @Transactional
+@Timed(value = "ewm.service", histogram = true)
 public class CommentServiceImpl implements CommentService {
     private final CommentRepository commentRepository;
     private final UserService userService;
     private final EventService eventService;
-    private final RequestService requestService;
 
     @Override
     public CommentDto addComment(Long userId, Long eventId, NewCommentDto newCommentDto) {
-        log.info("Adding new comment by user ID {} for event ID {}", userId, eventId);
+        log.debug("Adding new comment by user ID {} for event ID {}", userId, eventId);
         User author = userService.getUserById(userId);
         Event event = eventService.getEventEntityById(eventId);
         if (event.getState() != PUBLISHED) {
@@ -51,15 +50,14 @@ public class CommentServiceImpl implements CommentService {
         }
         Comment comment = commentRepository.save(CommentMapper.toComment(newCommentDto, author, event));
         UserShortDto userShort = UserMapper.toUserShortDto(author);
-        EventShortDto eventShort = EventMapper.toEventShortDto(event,
-                requestService.getConfirmedRequestsCountForEvent(eventId));
+        EventShortDto eventShort = EventMapper.toEventShortDto(event, event.getConfirmedRequests());
         log.info("Successfully added comment ID {}", comment.getId());
         return CommentMapper.toCommentDto(comment, userShort, eventShort);
     }
 
     @Override
     public CommentDto updateComment(Long userId, Long eventId, Long commentId, NewCommentDto newCommentDto) {
-        log.info("Updating comment ID {} by user ID {} for event ID {}", commentId, userId, eventId);
+        log.debug("Updating comment ID {} by user ID {} for event ID {}", commentId, userId, eventId);
         User author = userService.getUserById(userId);
         Event event = eventService.getEventEntityById(eventId);
         Comment comment = commentRepository.findById(commentId).orElseThrow(() -> {
@@ -73,8 +71,7 @@ public class CommentServiceImpl implements CommentService {
         comment.setText(newCommentDto.getText());
         comment.setEdited(LocalDateTime.now());
         UserShortDto userShort = UserMapper.toUserShortDto(author);
-        EventShortDto eventShort = EventMapper.toEventShortDto(event,
-                requestService.getConfirmedRequestsCountForEvent(eventId));
+        EventShortDto eventShort = EventMapper.toEventShortDto(event, event.getConfirmedRequests());
         log.info("Successfully updated comment ID {}", commentId);
         return CommentMapper.toCommentDto(comment, userShort, eventShort);
     }
@@ -82,52 +79,48 @@ public class CommentServiceImpl implements CommentService {
     @Override
     @Transactional(readOnly = true)
     public List<CommentDto> getCommentsByAuthor(Long userId, Integer from, Integer size) {
-        log.info("Getting comments by author ID {}, from {}, size {}", userId, from, size);
+        log.debug("Getting comments by author ID {}, from {}, size {}", userId, from, size);
         User author = userService.getUserById(userId);
         List<Comment> comments = commentRepository.findAllByAuthorId(userId, PageRequest.of(from / size, size));
-        List<Long> eventIds = comments.stream().map(comment -> comment.getEvent().getId()).collect(Collectors.toList());
-        Map<Long, Long> confirmedRequests = requestService.getConfirmedRequestsCountForEvents(eventIds);
         UserShortDto userShort = UserMapper.toUserShortDto(author);
         List<CommentDto> result = new ArrayList<>();
         for (Comment c : comments) {
-            Long eventId  = c.getEvent().getId();
-            EventShortDto eventShort = EventMapper.toEventShortDto(c.getEvent(), confirmedRequests.get(eventId));
+            EventShortDto eventShort = EventMapper.toEventShortDto(c.getEvent(), c.getEvent().getConfirmedRequests());
             result.add(CommentMapper.toCommentDto(c, userShort, eventShort));
         }
-        log.info("Found {} comments by author ID {}", result.size(), userId);
+        log.debug("Found {} comments by author ID {}", result.size(), userId);
         return result;
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<CommentDto> getComments(Long eventId, Integer from, Integer size) {
-        log.info("Getting comments for event ID {}, from {}, size {}", eventId, from, size);
+        log.debug("Getting comments for event ID {}, from {}, size {}", eventId, from, size);
         Event event = eventService.getEventEntityById(eventId);
-        EventShortDto eventShort = EventMapper.toEventShortDto(event,
-                requestService.getConfirmedRequestsCountForEvent(eventId));
+        EventShortDto eventShort = EventMapper.toEventShortDto(event, event.getConfirmedRequests());
         List<CommentDto> result = commentRepository.findAllByEventId(eventId, PageRequest.of(from / size, size))
                 .stream()
                 .map(c -> CommentMapper.toCommentDto(c, UserMapper.toUserShortDto(c.getAuthor()), eventShort))
                 .collect(Collectors.toList());
-        log.info("Found {} comments for event ID {}", result.size(), eventId);
+        log.debug("Found {} comments for event ID {}", result.size(), eventId);
         return result;
     }
 
     @Override
     @Transactional(readOnly = true)
     public CommentDto getCommentById(Long commentId) {
-        log.info("Getting comment by ID {}", commentId);
+        log.debug("Getting comment by ID {}", commentId);
         Comment comment = checkAndGetComment(commentId);
         UserShortDto userShort = UserMapper.toUserShortDto(comment.getAuthor());
         EventShortDto eventShort = EventMapper.toEventShortDto(comment.getEvent(),
-                requestService.getConfirmedRequestsCountForEvent(comment.getEvent().getId()));
-        log.info("Successfully retrieved comment ID {}", commentId);
+                comment.getEvent().getConfirmedRequests());
+        log.debug("Successfully retrieved comment ID {}", commentId);
         return CommentMapper.toCommentDto(comment, userShort, eventShort);
     }
 
     @Override
     public void deleteComment(Long userId, Long commentId) {
-        log.info("Deleting comment ID {} by user ID {}", commentId, userId);
+        log.debug("Deleting comment ID {} by user ID {}", commentId, userId);
         User author = userService.getUserById(userId);
         Comment comment = checkAndGetComment(commentId);
         if (comment.getAuthor() != author) {
@@ -140,7 +133,7 @@ public class CommentServiceImpl implements CommentService {
 
     @Override
     public void deleteComment(Long commentId) {
-        log.info("Deleting comment ID {}", commentId);
+        log.debug("Deleting comment ID {}", commentId);
         checkAndGetComment(commentId);
         commentRepository.deleteById(commentId);
         log.info("Successfully deleted comment ID {}", commentId);
@@ -0,0 +1,138 @@
+package ru.practicum.ewm.compilations;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import ru.practicum.ewm.compilations.service.CompilationService;
+
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Serialized public compilation responses, kept as JSON bytes so cache hits skip JPA and Jackson entirely.
+ * After commit of a change published as {@link CompilationsChangedEvent} the affected compilations and all
+ * listings are dropped; a change of an event that belongs to no compilation drops nothing. Entries expire
+ * after {@code compilations.cache.ttl} as a safety net. The first page of pinned compilations, shown on the
+ * home page, is built at startup.
+ * <p>
+ * Each cache has a generation that is bumped before it is cleared as a whole. Entries are stamped with the
+ * generation their load started in, so a load that was in flight while the cache was cleared is discarded
+ * on its next read instead of serving pre-change data until it expires. Invalidating single keys needs no
+ * generation, since Caffeine waits for an in-flight load of the key before removing it.
+ */
+@Slf4j
+@Component
+public class CompilationReadModel {
+    private static final int HOME_PAGE_SIZE = 10;
+
+    private final CompilationService compilationService;
+    private final CompilationRepository compilationRepository;
+    private final ObjectMapper objectMapper;
+    private final Cache<Long, Versioned> compilations;
+    private final Cache<ListingKey, Versioned> listings;
+    private final AtomicLong compilationsGeneration = new AtomicLong();
+    private final AtomicLong listingsGeneration = new AtomicLong();
+
+    public CompilationReadModel(CompilationService compilationService,
+                                CompilationRepository compilationRepository,
+                                ObjectMapper objectMapper,
+                                MeterRegistry meterRegistry,
+                                @Value("${compilations.cache.ttl:10m}") Duration ttl,
+                                @Value("${compilations.cache.max-size:1000}") long maxSize) {
+        this.compilationService = compilationService;
+        this.compilationRepository = compilationRepository;
+        this.objectMapper = objectMapper;
+        this.compilations = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+        this.listings = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, compilations, "compilations");
+        CaffeineCacheMetrics.monitor(meterRegistry, listings, "compilation-listings");
+    }
+
+    public byte[] getCompilations(Boolean pinned, Integer from, Integer size) {
+        return get(listings, listingsGeneration, new ListingKey(pinned, from, size),
+                () -> compilationService.getCompilations(pinned, from, size));
+    }
+
+    public byte[] getCompilationById(Long compilationId) {
+        return get(compilations, compilationsGeneration, compilationId,
+                () -> compilationService.getCompilationById(compilationId));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        getCompilations(true, 0, HOME_PAGE_SIZE);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onChange(CompilationsChangedEvent event) {
+        if (event.compilationId() != null) {
+            compilations.invalidate(event.compilationId());
+        } else if (event.eventId() != null) {
+            List<Long> compilationIds = compilationRepository.findIdsByEventId(event.eventId());
+            if (compilationIds.isEmpty()) {
+                return;
+            }
+            compilations.invalidateAll(compilationIds);
+        } else {
+            compilationsGeneration.incrementAndGet();
+            compilations.invalidateAll();
+        }
+        listingsGeneration.incrementAndGet();
+        listings.invalidateAll();
+        log.debug("Compilation read model invalidated for {}", event);
+    }
+
+    /**
+     * Returns the cached response, loading it on a miss. An entry loaded in an older generation is dropped
+     * and loaded once more.
+     */
+    private <K> byte[] get(Cache<K, Versioned> cache, AtomicLong generation, K key, Supplier<Object> loader) {
+        Versioned cached = load(cache, generation, key, loader);
+        if (cached.generation() == generation.get()) {
+            return cached.json();
+        }
+        cache.asMap().remove(key, cached);
+        return load(cache, generation, key, loader).json();
+    }
+
+    private <K> Versioned load(Cache<K, Versioned> cache, AtomicLong generation, K key, Supplier<Object> loader) {
+        return cache.get(key, missing -> {
+            long started = generation.get();
+            return new Versioned(started, serialize(loader));
+        });
+    }
+
+    private byte[] serialize(Supplier<Object> loader) {
+        try {
+            return objectMapper.writeValueAsBytes(loader.get());
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private record ListingKey(Boolean pinned, Integer from, Integer size) {
+    }
+
+    private record Versioned(long generation, byte[] json) {
+    }
+}
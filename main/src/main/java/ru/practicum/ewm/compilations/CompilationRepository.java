@@ -1,10 +1,37 @@
 package ru.practicum.ewm.compilations;
 
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface CompilationRepository extends JpaRepository<Compilation, Long> {
     List<Compilation> findAllByPinned(Boolean pinned, Pageable pageable);
+
+    Slice<Compilation> findAllBy(Pageable pageable);
+
+    @EntityGraph(attributePaths = {"events", "events.category", "events.initiator", "events.location"})
+    Optional<Compilation> findWithEventsById(Long id);
+
+    @Query("SELECT c.id FROM Compilation c JOIN c.events e WHERE e.id = :eventId")
+    List<Long> findIdsByEventId(@Param("eventId") Long eventId);
+
+    /**
+     * Loads the event links of the given compilations, with each event's category, initiator and location, in
+     * one query. The returned compilations are the managed instances of the same ids, so calling this after
+     * paging initializes the events of the already loaded page.
+     */
+    @Query("SELECT DISTINCT c FROM Compilation c " +
+            "LEFT JOIN FETCH c.events e " +
+            "LEFT JOIN FETCH e.category " +
+            "LEFT JOIN FETCH e.initiator " +
+            "LEFT JOIN FETCH e.location " +
+            "WHERE c.id IN (:ids)")
+    List<Compilation> findAllWithEventsByIdIn(@Param("ids") Collection<Long> ids);
 }
\ No newline at end of file
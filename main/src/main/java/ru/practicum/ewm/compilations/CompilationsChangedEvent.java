@@ -0,0 +1,20 @@
+package ru.practicum.ewm.compilations;
+
+/**
+ * Published when data shown in compilations changes. {@code compilationId} names a changed compilation,
+ * {@code eventId} an event whose data (including its confirmed requests) changed; with both {@code null}
+ * any compilation may be affected, e.g. after a category was renamed.
+ */
+public record CompilationsChangedEvent(Long compilationId, Long eventId) {
+    public static CompilationsChangedEvent compilation(Long compilationId) {
+        return new CompilationsChangedEvent(compilationId, null);
+    }
+
+    public static CompilationsChangedEvent event(Long eventId) {
+        return new CompilationsChangedEvent(null, eventId);
+    }
+
+    public static CompilationsChangedEvent any() {
+        return new CompilationsChangedEvent(null, null);
+    }
+}
@@ -29,9 +29,9 @@ public class CompilationControllerAdmin {
     @PostMapping
     @ResponseStatus(value = HttpStatus.CREATED)
     public CompilationDto addCompilation(@RequestBody @Valid NewCompilationDto newCompilationDto) {
-        log.info("Admin: Adding new events compilation with title: {}", newCompilationDto.getTitle());
+        log.debug("Admin: Adding new events compilation with title: {}", newCompilationDto.getTitle());
         CompilationDto result = compilationService.addCompilation(newCompilationDto);
-        log.info("Admin: Successfully added compilation with ID: {}", result.getId());
+        log.debug("Admin: Successfully added compilation with ID: {}", result.getId());
         return result;
     }
 
@@ -39,17 +39,17 @@ public class CompilationControllerAdmin {
     @ResponseStatus(value = HttpStatus.OK)
     public CompilationDto updateCompilation(@PathVariable Long compilationId,
                                             @RequestBody @Valid UpdateCompilationRequest updateCompilation) {
-        log.info("Admin: Updating events compilation by ID: {}", compilationId);
+        log.debug("Admin: Updating events compilation by ID: {}", compilationId);
         CompilationDto result = compilationService.updateCompilation(compilationId, updateCompilation);
-        log.info("Admin: Successfully updated compilation with ID: {}", compilationId);
+        log.debug("Admin: Successfully updated compilation with ID: {}", compilationId);
         return result;
     }
 
     @DeleteMapping("/{compilationId}")
     @ResponseStatus(value = HttpStatus.NO_CONTENT)
     public void deleteCompilation(@PathVariable long compilationId) {
-        log.info("Admin: Deleting events compilation by ID: {}", compilationId);
+        log.debug("Admin: Deleting events compilation by ID: {}", compilationId);
         compilationService.deleteCompilation(compilationId);
-        log.info("Admin: Event compilation with ID: {} was successfully deleted", compilationId);
+        log.debug("Admin: Event compilation with ID: {} was successfully deleted", compilationId);
     }
 }
\ No newline at end of file
@@ -1,7 +1,9 @@
 package ru.practicum.ewm.compilations.service;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -9,6 +11,7 @@ import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.ewm.compilations.Compilation;
 import ru.practicum.ewm.compilations.CompilationMapper;
 import ru.practicum.ewm.compilations.CompilationRepository;
+import ru.practicum.ewm.compilations.CompilationsChangedEvent;
 import ru.practicum.ewm.compilations.dto.CompilationDto;
 import ru.practicum.ewm.compilations.dto.NewCompilationDto;
 import ru.practicum.ewm.compilations.dto.UpdateCompilationRequest;
@@ -16,29 +19,24 @@ import ru.practicum.ewm.events.EventMapper;
 import ru.practicum.ewm.events.EventRepository;
 import ru.practicum.ewm.events.model.Event;
 import ru.practicum.ewm.exceptions.NotFoundException;
-import ru.practicum.ewm.requests.RequestRepository;
-import ru.practicum.ewm.requests.dto.ConfirmedRequests;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
-import java.util.Set;
 import java.util.stream.Collectors;
 
-import static ru.practicum.ewm.requests.model.RequestStatus.CONFIRMED;
-
 @Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional
+@Timed(value = "ewm.service", histogram = true)
 public class CompilationServiceImpl implements CompilationService {
     private final CompilationRepository compilationRepository;
     private final EventRepository eventRepository;
-    private final RequestRepository requestRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public CompilationDto addCompilation(NewCompilationDto newCompilationDto) {
-        log.info("Adding new compilation with title: {}", newCompilationDto.getTitle());
+        log.debug("Adding new compilation with title: {}", newCompilationDto.getTitle());
         Compilation compilation = CompilationMapper.toCompilation(newCompilationDto);
 
         if (newCompilationDto.getEvents() != null) {
@@ -46,26 +44,15 @@ public class CompilationServiceImpl implements CompilationService {
             compilation.setEvents(eventRepository.findAllByIdIn(newCompilationDto.getEvents()));
         }
 
-        CompilationDto compilationDto = CompilationMapper.toCompilationDto(compilationRepository.save(compilation));
+        compilationRepository.save(compilation);
         log.info("Compilation created with ID: {}", compilation.getId());
-
-        if (compilation.getEvents() != null) {
-            List<Long> ids = compilation.getEvents().stream().map(Event::getId).collect(Collectors.toList());
-            Map<Long, Long> confirmedRequests = requestRepository.findAllByEventIdInAndStatus(ids, CONFIRMED)
-                    .stream()
-                    .collect(Collectors.toMap(ConfirmedRequests::getEvent, ConfirmedRequests::getCount));
-
-            compilationDto.setEvents(compilation.getEvents().stream()
-                    .map(event -> EventMapper.toEventShortDto(event, confirmedRequests.get(event.getId())))
-                    .collect(Collectors.toList()));
-        }
-
-        return compilationDto;
+        eventPublisher.publishEvent(CompilationsChangedEvent.compilation(compilation.getId()));
+        return toCompilationDtos(List.of(compilation)).getFirst();
     }
 
     @Override
     public CompilationDto updateCompilation(Long compId, UpdateCompilationRequest updateCompilation) {
-        log.info("Updating compilation with ID: {}", compId);
+        log.debug("Updating compilation with ID: {}", compId);
         Compilation compilation = getCompilation(compId);
 
         if (updateCompilation.getEvents() != null) {
@@ -85,71 +72,50 @@ public class CompilationServiceImpl implements CompilationService {
         }
 
         log.info("Compilation ID {} successfully updated", compId);
-        return enrichWithConfirmedRequests(CompilationMapper.toCompilationDto(compilation), compilation.getEvents());
+        eventPublisher.publishEvent(CompilationsChangedEvent.compilation(compId));
+        return toCompilationDtos(List.of(compilation)).getFirst();
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<CompilationDto> getCompilations(Boolean pinned, Integer from, Integer size) {
-        log.info("Getting compilations list with parameters: pinned={}, from={}, size={}", pinned, from, size);
+        log.debug("Getting compilations list with parameters: pinned={}, from={}, size={}", pinned, from, size);
         Pageable pageable = PageRequest.of(from / size, size);
 
         List<Compilation> compilations;
         if (pinned != null) {
             compilations = compilationRepository.findAllByPinned(pinned, pageable);
         } else {
-            compilations = compilationRepository.findAll(pageable).getContent();
+            compilations = compilationRepository.findAllBy(pageable).getContent();
         }
 
-        List<CompilationDto> result = new ArrayList<>();
-        for (Compilation compilation : compilations) {
-            CompilationDto compilationDto = CompilationMapper.toCompilationDto(compilation);
-
-            if (compilation.getEvents() != null) {
-                List<Long> ids = compilation.getEvents().stream().map(Event::getId).collect(Collectors.toList());
-                Map<Long, Long> confirmedRequests = requestRepository.findAllByEventIdInAndStatus(ids, CONFIRMED)
-                        .stream()
-                        .collect(Collectors.toMap(ConfirmedRequests::getEvent, ConfirmedRequests::getCount));
-
-                compilationDto.setEvents(compilation.getEvents().stream()
-                        .map(event -> EventMapper.toEventShortDto(event, confirmedRequests.get(event.getId())))
-                        .collect(Collectors.toList()));
-            }
-
-            result.add(compilationDto);
+        if (!compilations.isEmpty()) {
+            compilationRepository.findAllWithEventsByIdIn(compilations.stream().map(Compilation::getId).toList());
         }
+        List<CompilationDto> result = toCompilationDtos(compilations);
 
-        log.info("Returning {} compilations", result.size());
+        log.debug("Returning {} compilations", result.size());
         return result;
     }
 
     @Override
     @Transactional(readOnly = true)
     public CompilationDto getCompilationById(Long compilationId) {
-        log.info("Getting compilation by ID: {}", compilationId);
-        Compilation compilation = getCompilation(compilationId);
-        CompilationDto compilationDto = CompilationMapper.toCompilationDto(compilation);
-
-        if (compilation.getEvents() != null) {
-            List<Long> ids = compilation.getEvents().stream().map(Event::getId).collect(Collectors.toList());
-            Map<Long, Long> confirmedRequests = requestRepository.findAllByEventIdInAndStatus(ids, CONFIRMED)
-                    .stream()
-                    .collect(Collectors.toMap(ConfirmedRequests::getEvent, ConfirmedRequests::getCount));
-
-            compilationDto.setEvents(compilation.getEvents().stream()
-                    .map(event -> EventMapper.toEventShortDto(event, confirmedRequests.get(event.getId())))
-                    .collect(Collectors.toList()));
-        }
-
-        return compilationDto;
+        log.debug("Getting compilation by ID: {}", compilationId);
+        Compilation compilation = compilationRepository.findWithEventsById(compilationId).orElseThrow(() -> {
+            log.error("Compilation not found with ID: {}", compilationId);
+            return new NotFoundException("Compilation id=" + compilationId + " not found");
+        });
+        return toCompilationDtos(List.of(compilation)).getFirst();
     }
 
     @Override
     public void deleteCompilation(Long compilationId) {
-        log.info("Deleting compilation with ID: {}", compilationId);
+        log.debug("Deleting compilation with ID: {}", compilationId);
         getCompilation(compilationId);
         compilationRepository.deleteById(compilationId);
         log.info("Compilation ID {} successfully deleted", compilationId);
+        eventPublisher.publishEvent(CompilationsChangedEvent.compilation(compilationId));
     }
 
     private Compilation getCompilation(Long compilationId) {
@@ -159,17 +125,21 @@ public class CompilationServiceImpl implements CompilationService {
         });
     }
 
-    private CompilationDto enrichWithConfirmedRequests(CompilationDto dto, Set<Event> events) {
-        if (events != null && !events.isEmpty()) {
-            List<Long> ids = events.stream().map(Event::getId).collect(Collectors.toList());
-            Map<Long, Long> confirmedRequests = requestRepository.findAllByEventIdInAndStatus(ids, CONFIRMED)
-                    .stream()
-                    .collect(Collectors.toMap(ConfirmedRequests::getEvent, ConfirmedRequests::getCount));
-
-            dto.setEvents(events.stream()
-                    .map(event -> EventMapper.toEventShortDto(event, confirmedRequests.get(event.getId())))
-                    .collect(Collectors.toList()));
+    /**
+     * Maps compilations to DTOs. Events must already be loaded, otherwise each compilation triggers its own
+     * lazy load.
+     */
+    private List<CompilationDto> toCompilationDtos(List<Compilation> compilations) {
+        List<CompilationDto> result = new ArrayList<>(compilations.size());
+        for (Compilation compilation : compilations) {
+            CompilationDto compilationDto = CompilationMapper.toCompilationDto(compilation);
+            if (compilation.getEvents() != null) {
+                compilationDto.setEvents(compilation.getEvents().stream()
+                        .map(event -> EventMapper.toEventShortDto(event, event.getConfirmedRequests()))
+                        .collect(Collectors.toList()));
+            }
+            result.add(compilationDto);
         }
-        return dto;
+        return result;
     }
-}
\ No newline at end of file
+}
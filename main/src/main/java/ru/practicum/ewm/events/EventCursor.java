@@ -0,0 +1,94 @@
+package ru.practicum.ewm.events;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import ru.practicum.ewm.events.model.Event;
+import ru.practicum.ewm.exceptions.ValidationException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * Opaque continuation token of keyset pagination over events: the sort key of the last event of a page.
+ * The next page is selected with a seek predicate on that key instead of an OFFSET, so every page costs
+ * the same index range scan. Only immutable keys are supported: a key that changes between requests, such
+ * as the view count, would move events across the cursor and make pages skip or repeat them.
+ */
+public final class EventCursor {
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    private static final String SEPARATOR = "|";
+
+    public enum Order {
+        EVENT_DATE(Sort.by(Sort.Order.asc("eventDate"), Sort.Order.asc("id"))),
+        ID(Sort.by(Sort.Order.asc("id")));
+
+        private final Sort sort;
+
+        Order(Sort sort) {
+            this.sort = sort;
+        }
+
+        public Sort getSort() {
+            return sort;
+        }
+    }
+
+    private final Order order;
+    private final LocalDateTime eventDate;
+    private final long id;
+
+    private EventCursor(Order order, LocalDateTime eventDate, long id) {
+        this.order = order;
+        this.eventDate = eventDate;
+        this.id = id;
+    }
+
+    public static EventCursor after(Event event, Order order) {
+        return new EventCursor(order, event.getEventDate(), event.getId());
+    }
+
+    /**
+     * Decodes a token issued for the same order; an empty token starts at the first page and yields {@code null}.
+     */
+    public static EventCursor decode(String token, Order order) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8)
+                    .split("\\" + SEPARATOR);
+            if (Order.valueOf(parts[0]) != order) {
+                throw new ValidationException("Cursor was issued for a different sort");
+            }
+            return switch (order) {
+                case EVENT_DATE -> new EventCursor(order, LocalDateTime.parse(parts[1]), Long.parseLong(parts[2]));
+                case ID -> new EventCursor(order, null, Long.parseLong(parts[1]));
+            };
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException | DateTimeException e) {
+            throw new ValidationException("Invalid cursor: " + token);
+        }
+    }
+
+    public String encode() {
+        String key = switch (order) {
+            case EVENT_DATE -> order + SEPARATOR + eventDate + SEPARATOR + id;
+            case ID -> order + SEPARATOR + id;
+        };
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(key.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Selects the events that come after this cursor in its order.
+     */
+    public Specification<Event> seek() {
+        return (root, query, cb) -> switch (order) {
+            case EVENT_DATE -> cb.or(
+                    cb.greaterThan(root.get("eventDate"), eventDate),
+                    cb.and(cb.equal(root.get("eventDate"), eventDate), cb.greaterThan(root.get("id"), id)));
+            case ID -> cb.greaterThan(root.get("id"), id);
+        };
+    }
+}
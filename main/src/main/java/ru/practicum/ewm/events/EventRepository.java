@@ -3,20 +3,71 @@ package ru.practicum.ewm.events;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import ru.practicum.ewm.events.model.Event;
+import ru.practicum.ewm.events.model.State;
+import ru.practicum.ewm.requests.model.RequestStatus;
 
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
-public interface EventRepository extends JpaRepository<Event, Long> {
+public interface EventRepository extends JpaRepository<Event, Long>, JpaSpecificationExecutor<Event>,
+        EventRepositoryCustom {
 
+    @EntityGraph(attributePaths = {"category", "initiator", "location"})
     List<Event> findAllByInitiatorId(Long userId, Pageable pageable);
 
     Optional<Event> findByIdAndInitiatorId(Long eventId, Long userId);
 
+    @EntityGraph(attributePaths = {"category", "initiator", "location"})
     Page<Event> findAll(Specification<Event> specification, Pageable pageable);
 
+    @EntityGraph(attributePaths = {"category", "initiator", "location"})
     Set<Event> findAllByIdIn(List<Long> events);
+
+    @EntityGraph(attributePaths = {"category", "initiator", "location"})
+    List<Event> findAllByState(State state);
+
+    @Query("SELECT e.id FROM Event e WHERE e.state = :state")
+    List<Long> findIdsByState(State state);
+
+    @Modifying
+    @Query(value = "UPDATE events SET views = :views WHERE id = :eventId", nativeQuery = true)
+    void updateViews(Long eventId, long views);
+
+    @Modifying
+    @Query("UPDATE Event e SET e.confirmedRequests = e.confirmedRequests + :delta WHERE e.id = :eventId")
+    void addConfirmedRequests(Long eventId, long delta);
+
+    /**
+     * Takes one participant slot if the limit allows it and returns 1, or 0 when the event is full. The
+     * row lock taken by the update serializes concurrent reservations of the same event only.
+     */
+    @Modifying
+    @Query("UPDATE Event e SET e.confirmedRequests = e.confirmedRequests + 1 " +
+            "WHERE e.id = :eventId AND (e.participantLimit = 0 OR e.confirmedRequests < e.participantLimit)")
+    int reserveConfirmedRequest(Long eventId);
+
+    /**
+     * Locks the event row until the end of the transaction and returns its current confirmed requests count.
+     */
+    @Query(value = "SELECT confirmed_requests FROM events WHERE id = :eventId FOR UPDATE", nativeQuery = true)
+    long lockConfirmedRequests(Long eventId);
+
+    /**
+     * Finds events whose confirmed requests counter differs from the number of confirmed requests. Nothing
+     * is locked, so the result only names candidates to recount under the event lock.
+     */
+    @Query("SELECT e.id FROM Event e WHERE e.confirmedRequests <> " +
+            "(SELECT COUNT(r) FROM ParticipationRequest r WHERE r.event.id = e.id AND r.status = :status)")
+    List<Long> findIdsWithConfirmedRequestsDrift(RequestStatus status);
+
+    @Modifying
+    @Query("UPDATE Event e SET e.confirmedRequests = :confirmedRequests WHERE e.id = :eventId")
+    void setConfirmedRequests(Long eventId, long confirmedRequests);
 }
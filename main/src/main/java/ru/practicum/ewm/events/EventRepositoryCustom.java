@@ -0,0 +1,14 @@
+package ru.practicum.ewm.events;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+import ru.practicum.ewm.events.model.Event;
+
+public interface EventRepositoryCustom {
+    /**
+     * Reads one page of {@code pageable.getPageSize() + 1} rows without a count query; the extra row only
+     * tells whether another page follows.
+     */
+    Slice<Event> findSlice(Specification<Event> specification, Pageable pageable);
+}
@@ -0,0 +1,55 @@
+package ru.practicum.ewm.events;
+
+import jakarta.persistence.EntityGraph;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import ru.practicum.ewm.events.model.Event;
+
+import java.util.List;
+
+public class EventRepositoryImpl implements EventRepositoryCustom {
+    private static final String FETCH_GRAPH = "jakarta.persistence.fetchgraph";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Slice<Event> findSlice(Specification<Event> specification, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Event> query = cb.createQuery(Event.class);
+        Root<Event> root = query.from(Event.class);
+
+        Predicate predicate = specification.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.select(root);
+        if (pageable.getSort().isSorted()) {
+            query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+        }
+
+        EntityGraph<Event> graph = entityManager.createEntityGraph(Event.class);
+        graph.addAttributeNodes("category", "initiator", "location");
+        TypedQuery<Event> typedQuery = entityManager.createQuery(query)
+                .setHint(FETCH_GRAPH, graph)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize() + 1);
+
+        List<Event> events = typedQuery.getResultList();
+        boolean hasNext = events.size() > pageable.getPageSize();
+        if (hasNext) {
+            events = events.subList(0, pageable.getPageSize());
+        }
+        return new SliceImpl<>(events, pageable, hasNext);
+    }
+}
@@ -0,0 +1,76 @@
+package ru.practicum.ewm.events;
+
+import lombok.experimental.UtilityClass;
+import org.springframework.data.jpa.domain.Specification;
+import ru.practicum.ewm.events.model.Event;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+
+import static ru.practicum.ewm.events.model.State.PUBLISHED;
+
+@UtilityClass
+public class EventSpecifications {
+    /**
+     * Filter of the admin event search; every null or empty parameter is left out.
+     */
+    public Specification<Event> forAdmin(List<Long> users, List<String> states, List<Long> categories,
+                                         LocalDateTime rangeStart, LocalDateTime rangeEnd) {
+        Specification<Event> spec = Specification.where(null);
+
+        if (users != null && !users.isEmpty()) {
+            spec = spec.and((root, query, cb) -> root.get("initiator").get("id").in(users));
+        }
+        if (states != null && !states.isEmpty()) {
+            spec = spec.and((root, query, cb) -> root.get("state").as(String.class).in(states));
+        }
+        if (categories != null && !categories.isEmpty()) {
+            spec = spec.and((root, query, cb) -> root.get("category").get("id").in(categories));
+        }
+        if (rangeStart != null) {
+            spec = spec.and((root, query, cb) -> cb.greaterThanOrEqualTo(root.get("eventDate"), rangeStart));
+        }
+        if (rangeEnd != null) {
+            spec = spec.and((root, query, cb) -> cb.lessThanOrEqualTo(root.get("eventDate"), rangeEnd));
+        }
+
+        return spec;
+    }
+
+    /**
+     * Filter of the public event search: published events after {@code rangeStart}, or after now when it
+     * is null.
+     */
+    public Specification<Event> forPublic(String text, List<Long> categories, Boolean paid,
+                                          LocalDateTime rangeStart, LocalDateTime rangeEnd, Boolean onlyAvailable) {
+        Specification<Event> spec = Specification.where((root, query, cb) ->
+                cb.equal(root.get("state"), PUBLISHED));
+
+        if (text != null && !text.isBlank()) {
+            spec = spec.and((root, query, cb) -> cb.or(
+                    cb.like(cb.lower(root.get("annotation")), "%" + text.toLowerCase() + "%"),
+                    cb.like(cb.lower(root.get("description")), "%" + text.toLowerCase() + "%")
+            ));
+        }
+        if (categories != null && !categories.isEmpty()) {
+            spec = spec.and((root, query, cb) -> root.get("category").get("id").in(categories));
+        }
+        if (paid != null) {
+            spec = spec.and((root, query, cb) -> cb.equal(root.get("paid"), paid));
+        }
+        if (onlyAvailable != null && onlyAvailable) {
+            spec = spec.and((root, query, cb) ->
+                    cb.greaterThanOrEqualTo(root.get("participantLimit"), 0));
+        }
+
+        LocalDateTime startDateTime = Objects.requireNonNullElseGet(rangeStart, LocalDateTime::now);
+        spec = spec.and((root, query, cb) -> cb.greaterThan(root.get("eventDate"), startDateTime));
+
+        if (rangeEnd != null) {
+            spec = spec.and((root, query, cb) -> cb.lessThan(root.get("eventDate"), rangeEnd));
+        }
+
+        return spec;
+    }
+}
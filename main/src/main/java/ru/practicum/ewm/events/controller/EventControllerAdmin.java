@@ -14,16 +14,19 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import ru.practicum.EndpointHitDto;
+import ru.practicum.ewm.events.dto.CursorPage;
 import ru.practicum.ewm.events.dto.EventFullDto;
 import ru.practicum.ewm.events.dto.EventFullDtoWithViews;
 import ru.practicum.ewm.events.requests.UpdateEventAdminRequest;
 import ru.practicum.ewm.events.service.EventService;
 
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Positive;
 import jakarta.validation.constraints.PositiveOrZero;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 
 @Slf4j
@@ -38,9 +41,9 @@ public class EventControllerAdmin {
     @ResponseStatus(HttpStatus.OK)
     public EventFullDto updateEventByAdmin(@PathVariable Long eventId,
                                            @RequestBody @Valid UpdateEventAdminRequest updateEventAdminRequest) {
-        log.info("Admin updating event ID: {} with data: {}", eventId, updateEventAdminRequest);
+        log.debug("Admin updating event ID: {} with data: {}", eventId, updateEventAdminRequest);
         EventFullDto result = eventService.updateEventByAdmin(eventId, updateEventAdminRequest);
-        log.info("Admin successfully updated event ID: {}", eventId);
+        log.debug("Admin successfully updated event ID: {}", eventId);
         return result;
     }
 
@@ -56,12 +59,28 @@ public class EventControllerAdmin {
                                                               @RequestParam(value = "from", defaultValue = "0")
                                                               @PositiveOrZero Integer from,
                                                               @RequestParam(value = "size", defaultValue = "10")
-                                                              @Positive Integer size) {
-        log.info("Admin searching events with params: users={}, states={}, categories={}, rangeStart={}, rangeEnd={}, from={}, size={}",
+                                                              @Positive Integer size,
+                                                              @RequestParam(required = false) String cursor,
+                                                              @RequestParam(defaultValue = "false") Boolean withTotal,
+                                                              HttpServletResponse response) {
+        log.debug("Admin searching events with params: users={}, states={}, categories={}, rangeStart={}, rangeEnd={}, from={}, size={}",
                 users, states, categories, rangeStart, rangeEnd, from, size);
+        CompletableFuture<Long> total = withTotal
+                ? eventService.countEventsByAdminParams(users, states, categories, rangeStart, rangeEnd)
+                : null;
+
+        if (cursor != null) {
+            CursorPage<EventFullDtoWithViews> page = eventService.getEventsByAdminParams(
+                    users, states, categories, rangeStart, rangeEnd, cursor, size);
+            ListingHeaders.setNextCursor(response, page.getNextCursor());
+            ListingHeaders.setTotal(response, total);
+            log.debug("Admin found {} events on cursor page", page.getItems().size());
+            return page.getItems();
+        }
         List<EventFullDtoWithViews> result = eventService.getEventsByAdminParams(
                 users, states, categories, rangeStart, rangeEnd, from, size);
-        log.info("Admin found {} events matching search criteria", result.size());
+        ListingHeaders.setTotal(response, total);
+        log.debug("Admin found {} events matching search criteria", result.size());
         return result;
     }
 }
\ No newline at end of file
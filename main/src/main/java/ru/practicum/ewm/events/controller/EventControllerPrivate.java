@@ -14,10 +14,12 @@ import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 
+import ru.practicum.ewm.events.dto.CursorPage;
 import ru.practicum.ewm.events.dto.EventFullDto;
 import ru.practicum.ewm.events.dto.EventShortDto;
 import ru.practicum.ewm.events.dto.NewEventDto;
 
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Positive;
 import jakarta.validation.constraints.PositiveOrZero;
@@ -42,9 +44,9 @@ public class EventControllerPrivate {
     @PostMapping
     @ResponseStatus(value = HttpStatus.CREATED)
     public EventFullDto addEvent(@PathVariable Long userId, @RequestBody @Valid NewEventDto newEventDto) {
-        log.info("User ID: {} creating new event with data: {}", userId, newEventDto);
+        log.debug("User ID: {} creating new event with data: {}", userId, newEventDto);
         EventFullDto result = eventService.addEvent(userId, newEventDto);
-        log.info("User ID: {} successfully created event ID: {}", userId, result.getId());
+        log.debug("User ID: {} successfully created event ID: {}", userId, result.getId());
         return result;
     }
 
@@ -53,9 +55,9 @@ public class EventControllerPrivate {
     public EventFullDto updateEventByOwner(@PathVariable Long userId,
                                            @PathVariable Long eventId,
                                            @RequestBody @Valid UpdateEventUserRequest updateEvent) {
-        log.info("User ID: {} updating event ID: {} with data: {}", userId, eventId, updateEvent);
+        log.debug("User ID: {} updating event ID: {} with data: {}", userId, eventId, updateEvent);
         EventFullDto result = eventService.updateEventByOwner(userId, eventId, updateEvent);
-        log.info("User ID: {} successfully updated event ID: {}", userId, eventId);
+        log.debug("User ID: {} successfully updated event ID: {}", userId, eventId);
         return result;
     }
 
@@ -64,10 +66,10 @@ public class EventControllerPrivate {
     public EventRequestStatusUpdateResult updateRequestsStatus(@PathVariable Long userId,
                                                                @PathVariable Long eventId,
                                                                @RequestBody @Valid EventRequestStatusUpdateRequest request) {
-        log.info("User ID: {} updating requests status for event ID: {} with data: {}",
+        log.debug("User ID: {} updating requests status for event ID: {} with data: {}",
                 userId, eventId, request);
         EventRequestStatusUpdateResult result = requestService.updateRequestsStatus(userId, eventId, request);
-        log.info("User ID: {} processed {} requests for event ID: {}",
+        log.debug("User ID: {} processed {} requests for event ID: {}",
                 userId, result.getConfirmedRequests().size() + result.getRejectedRequests().size(), eventId);
         return result;
     }
@@ -76,19 +78,27 @@ public class EventControllerPrivate {
     @ResponseStatus(HttpStatus.OK)
     public List<EventShortDto> getEventsByOwner(@PathVariable Long userId,
                                                 @RequestParam(value = "from", defaultValue = "0") @PositiveOrZero Integer from,
-                                                @RequestParam(value = "size", defaultValue = "10") @Positive Integer size) {
-        log.info("Getting events for owner ID: {}, from: {}, size: {}", userId, from, size);
+                                                @RequestParam(value = "size", defaultValue = "10") @Positive Integer size,
+                                                @RequestParam(required = false) String cursor,
+                                                HttpServletResponse response) {
+        log.debug("Getting events for owner ID: {}, from: {}, size: {}", userId, from, size);
+        if (cursor != null) {
+            CursorPage<EventShortDto> page = eventService.getEventsByOwnerId(userId, cursor, size);
+            ListingHeaders.setNextCursor(response, page.getNextCursor());
+            log.debug("Found {} events for owner ID: {} on cursor page", page.getItems().size(), userId);
+            return page.getItems();
+        }
         List<EventShortDto> result = eventService.getEventsByOwnerId(userId, from, size);
-        log.info("Found {} events for owner ID: {}", result.size(), userId);
+        log.debug("Found {} events for owner ID: {}", result.size(), userId);
         return result;
     }
 
     @GetMapping("/{eventId}")
     @ResponseStatus(HttpStatus.OK)
     public EventFullDto getEventByOwner(@PathVariable Long userId, @PathVariable Long eventId) {
-        log.info("User ID: {} requesting event ID: {}", userId, eventId);
+        log.debug("User ID: {} requesting event ID: {}", userId, eventId);
         EventFullDto result = eventService.getEventByOwnerId(userId, eventId);
-        log.info("Returning event ID: {} for user ID: {}", eventId, userId);
+        log.debug("Returning event ID: {} for user ID: {}", eventId, userId);
         return result;
     }
 
@@ -96,9 +106,9 @@ public class EventControllerPrivate {
     @ResponseStatus(HttpStatus.OK)
     public List<ParticipationRequestDto> getRequestsByEventOwner(@PathVariable Long userId,
                                                                  @PathVariable Long eventId) {
-        log.info("User ID: {} requesting participation requests for event ID: {}", userId, eventId);
+        log.debug("User ID: {} requesting participation requests for event ID: {}", userId, eventId);
         List<ParticipationRequestDto> result = requestService.getRequestsByEventOwner(userId, eventId);
-        log.info("Found {} participation requests for event ID: {}", result.size(), eventId);
+        log.debug("Found {} participation requests for event ID: {}", result.size(), eventId);
         return result;
     }
 }
\ No newline at end of file
@@ -12,16 +12,19 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import ru.practicum.EndpointHitDto;
+import ru.practicum.ewm.events.dto.CursorPage;
 import ru.practicum.ewm.events.dto.EventFullDtoWithViews;
 import ru.practicum.ewm.events.dto.EventShortDtoWithViews;
 
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.constraints.Positive;
 import jakarta.validation.constraints.PositiveOrZero;
 import ru.practicum.ewm.events.service.EventService;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 @Validated
@@ -48,19 +51,37 @@ public class EventControllerPublic {
                                                   Integer from,
                                                   @RequestParam(value = "size", defaultValue = "10") @Positive
                                                   Integer size,
-                                                  HttpServletRequest request) {
-        log.info("Public event search request - text: '{}', categories: {}, paid: {}, " +
+                                                  @RequestParam(required = false) String cursor,
+                                                  @RequestParam(defaultValue = "false") Boolean withTotal,
+                                                  HttpServletRequest request,
+                                                  HttpServletResponse response) {
+        log.debug("Public event search request - text: '{}', categories: {}, paid: {}, " +
                         "rangeStart: {}, rangeEnd: {}, onlyAvailable: {}, sort: {}, from: {}, size: {}, " +
                         "client IP: {}, request URI: {}",
                 text, categories, paid, rangeStart, rangeEnd,
                 onlyAvailable, sort, from, size,
                 request.getRemoteAddr(), request.getRequestURI());
 
+        CompletableFuture<Long> total = withTotal
+                ? eventService.countEvents(text, categories, paid, rangeStart, rangeEnd, onlyAvailable)
+                : null;
+
+        if (cursor != null) {
+            CursorPage<EventShortDtoWithViews> page = eventService.getEvents(
+                    text, categories, paid, rangeStart, rangeEnd,
+                    onlyAvailable, sort, cursor, size, request);
+            ListingHeaders.setNextCursor(response, page.getNextCursor());
+            ListingHeaders.setTotal(response, total);
+            log.debug("Returning {} events for public cursor search", page.getItems().size());
+            return page.getItems();
+        }
+
         List<EventShortDtoWithViews> result = eventService.getEvents(
                 text, categories, paid, rangeStart, rangeEnd,
                 onlyAvailable, sort, from, size, request);
 
-        log.info("Returning {} events for public search", result.size());
+        ListingHeaders.setTotal(response, total);
+        log.debug("Returning {} events for public search", result.size());
         return result;
     }
 
@@ -68,13 +89,13 @@ public class EventControllerPublic {
     @ResponseStatus(HttpStatus.OK)
     public EventFullDtoWithViews getEventById(@PathVariable Long eventId,
                                               HttpServletRequest request) {
-        log.info("Public request for event ID: {}, client IP: {}, URI: {}",
+        log.debug("Public request for event ID: {}, client IP: {}, URI: {}",
                 eventId, request.getRemoteAddr(), request.getRequestURI());
 
         EventFullDtoWithViews result = eventService.getEventById(eventId, request);
 
-        log.info("Returning event ID: {} with title: '{}' and {} views",
+        log.debug("Returning event ID: {} with title: '{}' and {} views",
                 eventId, result.getTitle(), result.getViews());
         return result;
     }
-}
\ No newline at end of file
+}
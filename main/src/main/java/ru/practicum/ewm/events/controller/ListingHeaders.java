@@ -0,0 +1,31 @@
+package ru.practicum.ewm.events.controller;
+
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.experimental.UtilityClass;
+import ru.practicum.ewm.events.EventCursor;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Response headers shared by the event listings: the continuation token of a cursor page and the optional
+ * total number of matches.
+ */
+@UtilityClass
+class ListingHeaders {
+    static final String TOTAL_COUNT_HEADER = "X-Total-Count";
+
+    void setNextCursor(HttpServletResponse response, String nextCursor) {
+        if (nextCursor != null) {
+            response.setHeader(EventCursor.NEXT_CURSOR_HEADER, nextCursor);
+        }
+    }
+
+    /**
+     * Waits for a total started with the listing query, if one was requested.
+     */
+    void setTotal(HttpServletResponse response, CompletableFuture<Long> total) {
+        if (total != null) {
+            response.setHeader(TOTAL_COUNT_HEADER, String.valueOf(total.join()));
+        }
+    }
+}
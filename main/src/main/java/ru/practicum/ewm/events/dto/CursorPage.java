@@ -0,0 +1,14 @@
+package ru.practicum.ewm.events.dto;
+
+import lombok.Value;
+
+import java.util.List;
+
+@Value
+public class CursorPage<T> {
+    List<T> items;
+    /**
+     * Token for the next page, {@code null} on the last page.
+     */
+    String nextCursor;
+}
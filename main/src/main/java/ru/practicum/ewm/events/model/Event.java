@@ -21,6 +21,7 @@ import jakarta.persistence.ManyToOne;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.EnumType;
+import org.hibernate.annotations.ColumnDefault;
 import java.time.LocalDateTime;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
@@ -92,4 +93,19 @@ public class Event {
     @NotBlank
     @Size(min = 3, max = 120)
     private  String title;
+
+    /**
+     * Denormalized unique view count, maintained only by {@code EventViewsRefresher}; used for sorting.
+     */
+    @Column(insertable = false, updatable = false)
+    @ColumnDefault("0")
+    private Long views;
+
+    /**
+     * Denormalized number of confirmed requests, maintained by {@code RequestServiceImpl} with bulk
+     * increments and repaired by {@code ConfirmedRequestsReconciler}.
+     */
+    @Column(name = "confirmed_requests", insertable = false, updatable = false)
+    @ColumnDefault("0")
+    private Long confirmedRequests;
 }
\ No newline at end of file
@@ -0,0 +1,281 @@
+package ru.practicum.ewm.events.search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.practicum.ewm.events.EventRepository;
+import ru.practicum.ewm.events.model.Event;
+import ru.practicum.ewm.events.model.State;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * In-memory index of published events for the public search. Lower-cased annotation and description are
+ * split into trigrams with a bitmap of event ids per trigram; categories, paid, availability and event dates
+ * are kept as bitmaps too, so a query is answered by intersecting bitmaps and only the requested page is
+ * loaded from the database.
+ *
+ * <p>Text matches keep the semantics of the SQL search, a case-insensitive substring of the annotation or
+ * the description: trigram postings narrow the candidates and every candidate is then checked for the
+ * substring. The index is built once the application is ready and updated after an admin publishes or edits
+ * an event commits; until the build completes {@link #isEnabled()} is false and searches go to the database.
+ */
+@Slf4j
+@Component
+public class EventSearchIndex {
+    private static final int GRAM = 3;
+
+    private final EventRepository eventRepository;
+    private final boolean enabled;
+    private volatile boolean built;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<Integer, Document> documents = new HashMap<>();
+    private final Map<String, RoaringBitmap> trigrams = new HashMap<>();
+    private final Map<Long, RoaringBitmap> categories = new HashMap<>();
+    private final NavigableMap<LocalDateTime, RoaringBitmap> eventDates = new TreeMap<>();
+    private final RoaringBitmap paid = new RoaringBitmap();
+    private final RoaringBitmap free = new RoaringBitmap();
+    private final RoaringBitmap available = new RoaringBitmap();
+    private final RoaringBitmap all = new RoaringBitmap();
+    private final Set<Integer> updatedDuringBuild = new HashSet<>();
+
+    public EventSearchIndex(EventRepository eventRepository,
+                            @Value("${events.search.index.enabled:false}") boolean enabled) {
+        this.eventRepository = eventRepository;
+        this.enabled = enabled;
+    }
+
+    /**
+     * True once the index is built and can answer searches.
+     */
+    public boolean isEnabled() {
+        return enabled && built;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        if (!enabled) {
+            return;
+        }
+        List<Event> events = eventRepository.findAllByState(State.PUBLISHED);
+        lock.writeLock().lock();
+        try {
+            // events changed after the snapshot was read are already indexed with their newer values
+            events.stream()
+                    .filter(event -> !updatedDuringBuild.contains(Math.toIntExact(event.getId())))
+                    .forEach(event -> add(Document.of(event)));
+            updatedDuringBuild.clear();
+            built = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Search index built for {} published events", events.size());
+    }
+
+    /**
+     * Reindexes the event with its current field values once the surrounding transaction commits;
+     * events that are not published are removed from the index.
+     */
+    public void updateAfterCommit(Event event) {
+        if (!enabled) {
+            return;
+        }
+        int id = Math.toIntExact(event.getId());
+        Document document = event.getState() == State.PUBLISHED ? Document.of(event) : null;
+        Runnable update = () -> {
+            lock.writeLock().lock();
+            try {
+                if (!built) {
+                    updatedDuringBuild.add(id);
+                }
+                remove(id);
+                if (document != null) {
+                    add(document);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    update.run();
+                }
+            });
+        } else {
+            update.run();
+        }
+    }
+
+    /**
+     * Returns the ids of one page of matching published events ordered by event date and id, or by id
+     * when {@code byEventDate} is false. Dates are exclusive bounds like in the SQL search, so a range that
+     * ends at or before its start matches nothing.
+     */
+    public List<Long> search(String text, List<Long> categoryIds, Boolean paidOnly, LocalDateTime rangeStart,
+                             LocalDateTime rangeEnd, Boolean onlyAvailable, boolean byEventDate,
+                             int from, int size) {
+        if (rangeEnd != null && !rangeEnd.isAfter(rangeStart)) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            RoaringBitmap matches = all.clone();
+            if (categoryIds != null && !categoryIds.isEmpty()) {
+                RoaringBitmap inCategories = new RoaringBitmap();
+                categoryIds.stream()
+                        .map(categories::get)
+                        .filter(Objects::nonNull)
+                        .forEach(inCategories::or);
+                matches.and(inCategories);
+            }
+            if (paidOnly != null) {
+                matches.and(paidOnly ? paid : free);
+            }
+            if (onlyAvailable != null && onlyAvailable) {
+                matches.and(available);
+            }
+            NavigableMap<LocalDateTime, RoaringBitmap> dates = rangeEnd == null
+                    ? eventDates.tailMap(rangeStart, false)
+                    : eventDates.subMap(rangeStart, false, rangeEnd, false);
+            RoaringBitmap inRange = new RoaringBitmap();
+            dates.values().forEach(inRange::or);
+            matches.and(inRange);
+            if (text != null && !text.isBlank()) {
+                matches = matchText(text.toLowerCase(), matches);
+            }
+
+            List<Long> page = new ArrayList<>(size);
+            if (!byEventDate) {
+                matches.stream().skip(from).limit(size).forEach(id -> page.add((long) id));
+                return page;
+            }
+            int skipped = 0;
+            for (RoaringBitmap bucket : dates.values()) {
+                RoaringBitmap hits = RoaringBitmap.and(bucket, matches);
+                int count = hits.getCardinality();
+                if (skipped + count <= from) {
+                    skipped += count;
+                    continue;
+                }
+                for (int id : hits) {
+                    if (skipped++ < from) {
+                        continue;
+                    }
+                    page.add((long) id);
+                    if (page.size() == size) {
+                        return page;
+                    }
+                }
+            }
+            return page;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private RoaringBitmap matchText(String text, RoaringBitmap candidates) {
+        RoaringBitmap narrowed = candidates;
+        if (text.length() >= GRAM) {
+            for (int i = 0; i + GRAM <= text.length(); i++) {
+                RoaringBitmap posting = trigrams.get(text.substring(i, i + GRAM));
+                if (posting == null) {
+                    return new RoaringBitmap();
+                }
+                narrowed = RoaringBitmap.and(narrowed, posting);
+            }
+        }
+        RoaringBitmap result = new RoaringBitmap();
+        narrowed.forEach((int id) -> {
+            Document document = documents.get(id);
+            if (document.annotation().contains(text) || document.description().contains(text)) {
+                result.add(id);
+            }
+        });
+        return result;
+    }
+
+    private void add(Document document) {
+        int id = document.id();
+        documents.put(id, document);
+        all.add(id);
+        forEachTrigram(document, gram -> trigrams.computeIfAbsent(gram, key -> new RoaringBitmap()).add(id));
+        categories.computeIfAbsent(document.categoryId(), key -> new RoaringBitmap()).add(id);
+        eventDates.computeIfAbsent(document.eventDate(), key -> new RoaringBitmap()).add(id);
+        if (Boolean.TRUE.equals(document.paid())) {
+            paid.add(id);
+        } else if (Boolean.FALSE.equals(document.paid())) {
+            free.add(id);
+        }
+        if (document.available()) {
+            available.add(id);
+        }
+    }
+
+    private void remove(int id) {
+        Document document = documents.remove(id);
+        if (document == null) {
+            return;
+        }
+        all.remove(id);
+        forEachTrigram(document, gram -> removeFrom(trigrams, gram, id));
+        removeFrom(categories, document.categoryId(), id);
+        removeFrom(eventDates, document.eventDate(), id);
+        paid.remove(id);
+        free.remove(id);
+        available.remove(id);
+    }
+
+    private static <K> void removeFrom(Map<K, RoaringBitmap> postings, K key, int id) {
+        RoaringBitmap posting = postings.get(key);
+        if (posting != null) {
+            posting.remove(id);
+            if (posting.isEmpty()) {
+                postings.remove(key);
+            }
+        }
+    }
+
+    private static void forEachTrigram(Document document, Consumer<String> action) {
+        Set<String> grams = new HashSet<>();
+        for (String field : List.of(document.annotation(), document.description())) {
+            for (int i = 0; i + GRAM <= field.length(); i++) {
+                grams.add(field.substring(i, i + GRAM));
+            }
+        }
+        grams.forEach(action);
+    }
+
+    private record Document(int id, String annotation, String description, long categoryId,
+                            Boolean paid, boolean available, LocalDateTime eventDate) {
+        static Document of(Event event) {
+            return new Document(
+                    Math.toIntExact(event.getId()),
+                    event.getAnnotation().toLowerCase(),
+                    event.getDescription().toLowerCase(),
+                    event.getCategory().getId(),
+                    event.getPaid(),
+                    event.getParticipantLimit() != null && event.getParticipantLimit() >= 0,
+                    event.getEventDate());
+        }
+    }
+}
@@ -2,6 +2,7 @@ package ru.practicum.ewm.events.service;
 
 
 import jakarta.servlet.http.HttpServletRequest;
+import ru.practicum.ewm.events.dto.CursorPage;
 import ru.practicum.ewm.events.dto.EventFullDto;
 import ru.practicum.ewm.events.dto.EventShortDto;
 import ru.practicum.ewm.events.dto.EventFullDtoWithViews;
@@ -13,6 +14,7 @@ import ru.practicum.ewm.events.requests.UpdateEventUserRequest;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 public interface EventService {
     EventFullDto addEvent(Long userId, NewEventDto newEventDto);
@@ -23,16 +25,37 @@ public interface EventService {
 
     List<EventShortDto> getEventsByOwnerId(Long userId, Integer from, Integer size);
 
+    CursorPage<EventShortDto> getEventsByOwnerId(Long userId, String cursor, Integer size);
+
     EventFullDto getEventByOwnerId(Long userId, Long eventId);
 
     List<EventFullDtoWithViews> getEventsByAdminParams(List<Long> users, List<String> states, List<Long> categories,
                                                        LocalDateTime rangeStart, LocalDateTime rangeEnd,
                                                        Integer from, Integer size);
 
+    CursorPage<EventFullDtoWithViews> getEventsByAdminParams(List<Long> users, List<String> states,
+                                                             List<Long> categories, LocalDateTime rangeStart,
+                                                             LocalDateTime rangeEnd, String cursor, Integer size);
+
     List<EventShortDtoWithViews> getEvents(String text, List<Long> categories, Boolean paid, LocalDateTime rangeStart,
                                            LocalDateTime rangeEnd, Boolean onlyAvailable, String sort, Integer from,
                                            Integer size, HttpServletRequest request);
 
+    CursorPage<EventShortDtoWithViews> getEvents(String text, List<Long> categories, Boolean paid,
+                                                 LocalDateTime rangeStart, LocalDateTime rangeEnd,
+                                                 Boolean onlyAvailable, String sort, String cursor, Integer size,
+                                                 HttpServletRequest request);
+
+    /**
+     * Counts the matches of a public search in the background, for the optional total of a listing. The
+     * parameters are validated before the count starts, so an invalid search fails here.
+     */
+    CompletableFuture<Long> countEvents(String text, List<Long> categories, Boolean paid, LocalDateTime rangeStart,
+                                        LocalDateTime rangeEnd, Boolean onlyAvailable);
+
+    CompletableFuture<Long> countEventsByAdminParams(List<Long> users, List<String> states, List<Long> categories,
+                                                     LocalDateTime rangeStart, LocalDateTime rangeEnd);
+
     EventFullDtoWithViews getEventById(Long eventId, HttpServletRequest request);
 
     Event getEventEntityById(Long eventId);
@@ -1,18 +1,28 @@
 package ru.practicum.ewm.events.service;
 
+import io.micrometer.context.ContextExecutorService;
+import io.micrometer.context.ContextSnapshotFactory;
+import io.micrometer.core.annotation.Timed;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.ewm.categories.Category;
 import ru.practicum.ewm.categories.CategoryMapper;
 import ru.practicum.ewm.categories.service.CategoryService;
+import ru.practicum.ewm.compilations.CompilationsChangedEvent;
+import ru.practicum.ewm.events.EventCursor;
 import ru.practicum.ewm.events.EventMapper;
 import ru.practicum.ewm.events.EventRepository;
+import ru.practicum.ewm.events.EventSpecifications;
+import ru.practicum.ewm.events.dto.CursorPage;
 import ru.practicum.ewm.events.dto.EventFullDto;
 import ru.practicum.ewm.events.dto.EventShortDto;
 import ru.practicum.ewm.events.dto.EventFullDtoWithViews;
@@ -24,6 +34,7 @@ import ru.practicum.ewm.events.model.StateActionAdmin;
 import ru.practicum.ewm.events.model.StateActionPrivate;
 import ru.practicum.ewm.events.requests.UpdateEventAdminRequest;
 import ru.practicum.ewm.events.requests.UpdateEventUserRequest;
+import ru.practicum.ewm.events.search.EventSearchIndex;
 import ru.practicum.ewm.exceptions.NotFoundException;
 import ru.practicum.ewm.exceptions.ValidationException;
 
@@ -31,12 +42,14 @@ import jakarta.servlet.http.HttpServletRequest;
 import ru.practicum.ewm.locations.Location;
 import ru.practicum.ewm.locations.LocationDto;
 import ru.practicum.ewm.locations.LocationMapper;
-import ru.practicum.ewm.requests.service.RequestService;
 import ru.practicum.ewm.users.User;
 import ru.practicum.ewm.users.service.UserService;
 
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 
 import static ru.practicum.ewm.events.model.State.PENDING;
@@ -51,17 +64,21 @@ import static ru.practicum.ewm.events.model.StateActionPrivate.SEND_TO_REVIEW;
 @RequiredArgsConstructor
 @Transactional
 @Slf4j
+@Timed(value = "ewm.service", histogram = true)
 public class EventServiceImpl implements EventService {
     private final  EventRepository eventRepository;
     private final UserService userService;
     private final CategoryService categoryService;
-    private final RequestService requestService;
     private final EventStatService eventStatService;
     private final EventValidationService validationService;
+    private final EventSearchIndex searchIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ExecutorService countExecutor = ContextExecutorService.wrap(
+            Executors.newVirtualThreadPerTaskExecutor(), ContextSnapshotFactory.builder().build()::captureAll);
 
     @Override
     public EventFullDto addEvent(Long userId, NewEventDto newEventDto) {
-        log.info("Adding new event by user ID: {}", userId);
+        log.debug("Adding new event by user ID: {}", userId);
         validationService.validateEventTime(newEventDto.getEventDate());
 
         User user = userService.getUserById(userId);
@@ -86,7 +103,7 @@ public class EventServiceImpl implements EventService {
 
     @Override
     public EventFullDto updateEventByOwner(Long userId, Long eventId, UpdateEventUserRequest updateEvent) {
-        log.info("Updating event ID: {} by user ID: {}", eventId, userId);
+        log.debug("Updating event ID: {} by user ID: {}", eventId, userId);
         Event event = validationService.validateAndGetEvent(eventId, userId);
 
         if (event.getState() == PUBLISHED) {
@@ -107,14 +124,15 @@ public class EventServiceImpl implements EventService {
             }
         }
 
-        Long confirmedRequests = requestService.getConfirmedRequestsCountForEvent(eventId);
+        eventPublisher.publishEvent(CompilationsChangedEvent.event(eventId));
+        Long confirmedRequests = event.getConfirmedRequests();
         log.info("Event ID: {} successfully updated by owner", eventId);
         return EventMapper.toEventFullDto(event, confirmedRequests);
     }
 
     @Override
     public EventFullDto updateEventByAdmin(Long eventId, UpdateEventAdminRequest updateEvent) {
-        log.info("Admin updating event ID: {}", eventId);
+        log.debug("Admin updating event ID: {}", eventId);
         Event event = validationService.validateAndGetEvent(eventId);
 
         if (updateEvent.getStateAction() != null) {
@@ -123,8 +141,10 @@ public class EventServiceImpl implements EventService {
         }
 
         updateEventAdminFields(event, updateEvent);
+        searchIndex.updateAfterCommit(event);
+        eventPublisher.publishEvent(CompilationsChangedEvent.event(eventId));
 
-        Long confirmedRequests = requestService.getConfirmedRequestsCountForEvent(eventId);
+        Long confirmedRequests = event.getConfirmedRequests();
         log.info("Event ID: {} successfully updated by admin", eventId);
         return EventMapper.toEventFullDto(event, confirmedRequests);
     }
@@ -132,29 +152,33 @@ public class EventServiceImpl implements EventService {
     @Override
     @Transactional(readOnly = true)
     public List<EventShortDto> getEventsByOwnerId(Long userId, Integer from, Integer size) {
-        log.info("Getting events for owner ID: {}, from: {}, size: {}", userId, from, size);
+        log.debug("Getting events for owner ID: {}, from: {}, size: {}", userId, from, size);
         PageRequest pageRequest = PageRequest.of(from / size, size);
         List<Event> events = eventRepository.findAllByInitiatorId(userId, pageRequest);
 
-        List<Long> eventIds = events.stream()
-                .map(Event::getId)
+        log.debug("Found {} events for owner ID: {}", events.size(), userId);
+        return events.stream()
+                .map(event -> EventMapper.toEventShortDto(event, event.getConfirmedRequests()))
                 .collect(Collectors.toList());
+    }
 
-        Map<Long, Long> confirmedRequests = requestService.getConfirmedRequestsCountForEvents(eventIds);
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<EventShortDto> getEventsByOwnerId(Long userId, String cursor, Integer size) {
+        log.debug("Getting events for owner ID: {}, cursor: {}, size: {}", userId, cursor, size);
+        Specification<Event> specification = (root, query, cb) -> cb.equal(root.get("initiator").get("id"), userId);
+        CursorPage<Event> page = findPage(specification, EventCursor.Order.ID, cursor, size);
 
-        log.debug("Found {} events for owner ID: {}", events.size(), userId);
-        return events.stream()
-                .map(event -> EventMapper.toEventShortDto(
-                        event,
-                        confirmedRequests.getOrDefault(event.getId(), 0L)
-                ))
+        List<EventShortDto> result = page.getItems().stream()
+                .map(event -> EventMapper.toEventShortDto(event, event.getConfirmedRequests()))
                 .collect(Collectors.toList());
+        return new CursorPage<>(result, page.getNextCursor());
     }
 
     @Override
     @Transactional(readOnly = true)
     public Event getEventEntityById(Long eventId) {
-        log.info("Getting event entity by ID: {}", eventId);
+        log.debug("Getting event entity by ID: {}", eventId);
         return eventRepository.findById(eventId)
                 .orElseThrow(() -> {
                     log.error("Event not found with ID: {}", eventId);
@@ -165,7 +189,7 @@ public class EventServiceImpl implements EventService {
     @Override
     @Transactional(readOnly = true)
     public Event getEventByOwner(Long userId, Long eventId) {
-        log.info("Getting event ID: {} for owner ID: {}", eventId, userId);
+        log.debug("Getting event ID: {} for owner ID: {}", eventId, userId);
         return eventRepository.findByIdAndInitiatorId(eventId, userId)
                 .orElseThrow(() -> {
                     log.error("Event not found with ID: {} for owner ID: {}", eventId, userId);
@@ -176,27 +200,19 @@ public class EventServiceImpl implements EventService {
     @Override
     @Transactional(readOnly = true)
     public EventFullDto getEventByOwnerId(Long userId, Long eventId) {
-        log.info("Getting event ID: {} for owner ID: {}", eventId, userId);
+        log.debug("Getting event ID: {} for owner ID: {}", eventId, userId);
         Event event = validationService.validateAndGetEvent(eventId, userId);
-        Long confirmedRequests = requestService.getConfirmedRequestsCountForEvent(eventId);
+        Long confirmedRequests = event.getConfirmedRequests();
         return EventMapper.toEventFullDto(event, confirmedRequests);
     }
 
-    private Map<Long, Long> getConfirmedRequests(List<Event> events) {
-        List<Long> eventIds = events.stream()
-                .map(Event::getId)
-                .collect(Collectors.toList());
-
-        return requestService.getConfirmedRequestsCountForEvents(eventIds);
-    }
-
 
     @Override
     @Transactional(readOnly = true)
     public List<EventFullDtoWithViews> getEventsByAdminParams(List<Long> users, List<String> states,
                                                               List<Long> categories, LocalDateTime rangeStart,
                                                               LocalDateTime rangeEnd, Integer from, Integer size) {
-        log.info("Admin events search with params: users={}, states={}, categories={}, rangeStart={}, rangeEnd={}",
+        log.debug("Admin events search with params: users={}, states={}, categories={}, rangeStart={}, rangeEnd={}",
                 users, states, categories, rangeStart, rangeEnd);
 
         if (rangeStart != null && rangeEnd != null && rangeStart.isAfter(rangeEnd)) {
@@ -204,9 +220,9 @@ public class EventServiceImpl implements EventService {
             throw new ValidationException("Incorrectly made request.");
         }
 
-        Specification<Event> specification = buildAdminSpecification(users, states, categories, rangeStart, rangeEnd);
+        Specification<Event> specification = EventSpecifications.forAdmin(users, states, categories, rangeStart, rangeEnd);
         PageRequest pageRequest = PageRequest.of(from / size, size);
-        List<Event> events = eventRepository.findAll(specification, pageRequest).getContent();
+        List<Event> events = eventRepository.findSlice(specification, pageRequest).getContent();
 
         if (events.isEmpty()) {
             log.debug("No events found for admin search");
@@ -218,13 +234,32 @@ public class EventServiceImpl implements EventService {
         return result;
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<EventFullDtoWithViews> getEventsByAdminParams(List<Long> users, List<String> states,
+                                                                    List<Long> categories, LocalDateTime rangeStart,
+                                                                    LocalDateTime rangeEnd, String cursor,
+                                                                    Integer size) {
+        log.debug("Admin events search with params: users={}, states={}, categories={}, rangeStart={}, rangeEnd={}, " +
+                "cursor={}", users, states, categories, rangeStart, rangeEnd, cursor);
+
+        if (rangeStart != null && rangeEnd != null && rangeStart.isAfter(rangeEnd)) {
+            log.error("Invalid date range: start {} is after end {}", rangeStart, rangeEnd);
+            throw new ValidationException("Incorrectly made request.");
+        }
+
+        Specification<Event> specification = EventSpecifications.forAdmin(users, states, categories, rangeStart, rangeEnd);
+        CursorPage<Event> page = findPage(specification, EventCursor.Order.ID, cursor, size);
+        return new CursorPage<>(eventStatService.getEventsWithStats(page.getItems()), page.getNextCursor());
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<EventShortDtoWithViews> getEvents(String text, List<Long> categories, Boolean paid,
                                                   LocalDateTime rangeStart, LocalDateTime rangeEnd,
                                                   Boolean onlyAvailable, String sort, Integer from,
                                                   Integer size, HttpServletRequest request) {
-        log.info("Public events search with params: text={}, categories={}, paid={}, rangeStart={}, rangeEnd={}, " +
+        log.debug("Public events search with params: text={}, categories={}, paid={}, rangeStart={}, rangeEnd={}, " +
                 "onlyAvailable={}, sort={}", text, categories, paid, rangeStart, rangeEnd, onlyAvailable, sort);
 
         if (rangeStart != null && rangeEnd != null && rangeStart.isAfter(rangeEnd)) {
@@ -232,12 +267,21 @@ public class EventServiceImpl implements EventService {
             throw new ValidationException("START can't be after END.");
         }
 
-        Specification<Event> specification = buildPublicSpecification(
-                text, categories, paid, rangeStart, rangeEnd, onlyAvailable
-        );
+        List<Event> events;
+        if (searchIndex.isEnabled() && (sort == null || "EVENT_DATE".equals(sort))) {
+            events = searchEventsInIndex(text, categories, paid, rangeStart, rangeEnd, onlyAvailable, sort,
+                    from, size);
+        } else {
+            Specification<Event> specification = EventSpecifications.forPublic(
+                    text, categories, paid, rangeStart, rangeEnd, onlyAvailable
+            );
+            if ("RELEVANCE".equals(sort)) {
+                specification = specification.and(orderByRelevance(text));
+            }
 
-        PageRequest pageRequest = buildPageRequest(from, size, sort);
-        List<Event> events = eventRepository.findAll(specification, pageRequest).getContent();
+            PageRequest pageRequest = buildPageRequest(from, size, sort);
+            events = eventRepository.findSlice(specification, pageRequest).getContent();
+        }
 
         if (events.isEmpty()) {
             log.debug("No events found for public search");
@@ -252,10 +296,60 @@ public class EventServiceImpl implements EventService {
         return result;
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<EventShortDtoWithViews> getEvents(String text, List<Long> categories, Boolean paid,
+                                                        LocalDateTime rangeStart, LocalDateTime rangeEnd,
+                                                        Boolean onlyAvailable, String sort, String cursor,
+                                                        Integer size, HttpServletRequest request) {
+        log.debug("Public events search with params: text={}, categories={}, paid={}, rangeStart={}, rangeEnd={}, " +
+                "onlyAvailable={}, sort={}, cursor={}", text, categories, paid, rangeStart, rangeEnd, onlyAvailable,
+                sort, cursor);
+
+        if (rangeStart != null && rangeEnd != null && rangeStart.isAfter(rangeEnd)) {
+            log.error("Invalid date range: start {} is after end {}", rangeStart, rangeEnd);
+            throw new ValidationException("START can't be after END.");
+        }
+
+        EventCursor.Order order = toCursorOrder(sort);
+        Specification<Event> specification = EventSpecifications.forPublic(
+                text, categories, paid, rangeStart, rangeEnd, onlyAvailable
+        );
+        CursorPage<Event> page = findPage(specification, order, cursor, size);
+
+        List<EventShortDtoWithViews> result = page.getItems().isEmpty()
+                ? new ArrayList<>()
+                : eventStatService.getShortEventsWithStats(page.getItems());
+        eventStatService.saveHit(request);
+        return new CursorPage<>(result, page.getNextCursor());
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public CompletableFuture<Long> countEvents(String text, List<Long> categories, Boolean paid,
+                                               LocalDateTime rangeStart, LocalDateTime rangeEnd,
+                                               Boolean onlyAvailable) {
+        validateDateRange(rangeStart, rangeEnd);
+        Specification<Event> specification = EventSpecifications.forPublic(
+                text, categories, paid, rangeStart, rangeEnd, onlyAvailable
+        );
+        return CompletableFuture.supplyAsync(() -> eventRepository.count(specification), countExecutor);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public CompletableFuture<Long> countEventsByAdminParams(List<Long> users, List<String> states,
+                                                            List<Long> categories, LocalDateTime rangeStart,
+                                                            LocalDateTime rangeEnd) {
+        validateDateRange(rangeStart, rangeEnd);
+        Specification<Event> specification = EventSpecifications.forAdmin(users, states, categories, rangeStart, rangeEnd);
+        return CompletableFuture.supplyAsync(() -> eventRepository.count(specification), countExecutor);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public EventFullDtoWithViews getEventById(Long eventId, HttpServletRequest request) {
-        log.info("Getting published event ID: {}", eventId);
+        log.debug("Getting published event ID: {}", eventId);
         Event event = validationService.validateAndGetEvent(eventId);
 
         if (event.getState() != PUBLISHED) {
@@ -263,7 +357,7 @@ public class EventServiceImpl implements EventService {
             throw new NotFoundException("Event must be published");
         }
 
-        Long confirmedRequests = requestService.getConfirmedRequestsCountForEvent(eventId);
+        Long confirmedRequests = event.getConfirmedRequests();
         EventFullDtoWithViews result = eventStatService.addViewsToEvent(event, confirmedRequests);
         eventStatService.saveHit(request);
 
@@ -366,61 +460,67 @@ public class EventServiceImpl implements EventService {
         }
     }
 
-    private Specification<Event> buildAdminSpecification(List<Long> users, List<String> states,
-                                                         List<Long> categories, LocalDateTime rangeStart,
-                                                         LocalDateTime rangeEnd) {
-        Specification<Event> spec = Specification.where(null);
+    private List<Event> searchEventsInIndex(String text, List<Long> categories, Boolean paid,
+                                            LocalDateTime rangeStart, LocalDateTime rangeEnd,
+                                            Boolean onlyAvailable, String sort, Integer from, Integer size) {
+        LocalDateTime startDateTime = Objects.requireNonNullElseGet(rangeStart, LocalDateTime::now);
+        List<Long> ids = searchIndex.search(text, categories, paid, startDateTime, rangeEnd, onlyAvailable,
+                sort != null, from, size);
+        Map<Long, Event> byId = eventRepository.findAllByIdIn(ids).stream()
+                .collect(Collectors.toMap(Event::getId, event -> event));
+        return ids.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
 
-        if (users != null && !users.isEmpty()) {
-            spec = spec.and((root, query, cb) -> root.get("initiator").get("id").in(users));
-        }
-        if (states != null && !states.isEmpty()) {
-            spec = spec.and((root, query, cb) -> root.get("state").as(String.class).in(states));
-        }
-        if (categories != null && !categories.isEmpty()) {
-            spec = spec.and((root, query, cb) -> root.get("category").get("id").in(categories));
-        }
-        if (rangeStart != null) {
-            spec = spec.and((root, query, cb) -> cb.greaterThanOrEqualTo(root.get("eventDate"), rangeStart));
+    /**
+     * Orders matches by pg_trgm word similarity of the search text to the annotation, then by event date.
+     */
+    private Specification<Event> orderByRelevance(String text) {
+        if (text == null || text.isBlank()) {
+            throw new ValidationException("Sort RELEVANCE requires text");
         }
-        if (rangeEnd != null) {
-            spec = spec.and((root, query, cb) -> cb.lessThanOrEqualTo(root.get("eventDate"), rangeEnd));
-        }
-
-        return spec;
+        String search = text.toLowerCase();
+        return (root, query, cb) -> {
+            query.orderBy(
+                    cb.desc(cb.function("word_similarity", Double.class,
+                            cb.literal(search), cb.lower(root.get("annotation")))),
+                    cb.asc(root.get("eventDate")),
+                    cb.asc(root.get("id")));
+            return null;
+        };
     }
 
-    private Specification<Event> buildPublicSpecification(String text, List<Long> categories, Boolean paid,
-                                                          LocalDateTime rangeStart, LocalDateTime rangeEnd,
-                                                          Boolean onlyAvailable) {
-        Specification<Event> spec = Specification.where((root, query, cb) ->
-                cb.equal(root.get("state"), PUBLISHED));
-
-        if (text != null && !text.isBlank()) {
-            spec = spec.and((root, query, cb) -> cb.or(
-                    cb.like(cb.lower(root.get("annotation")), "%" + text.toLowerCase() + "%"),
-                    cb.like(cb.lower(root.get("description")), "%" + text.toLowerCase() + "%")
-            ));
-        }
-        if (categories != null && !categories.isEmpty()) {
-            spec = spec.and((root, query, cb) -> root.get("category").get("id").in(categories));
+    /**
+     * Loads one keyset page: {@code size + 1} rows after the cursor tell whether another page follows.
+     */
+    private CursorPage<Event> findPage(Specification<Event> specification, EventCursor.Order order,
+                                       String token, int size) {
+        EventCursor cursor = EventCursor.decode(token, order);
+        Specification<Event> seek = cursor == null ? specification : specification.and(cursor.seek());
+        List<Event> events = eventRepository.findBy(seek, query -> query
+                .project("category", "initiator", "location")
+                .sortBy(order.getSort())
+                .limit(size + 1)
+                .all());
+
+        if (events.size() <= size) {
+            return new CursorPage<>(events, null);
         }
-        if (paid != null) {
-            spec = spec.and((root, query, cb) -> cb.equal(root.get("paid"), paid));
-        }
-        if (onlyAvailable != null && onlyAvailable) {
-            spec = spec.and((root, query, cb) ->
-                    cb.greaterThanOrEqualTo(root.get("participantLimit"), 0));
-        }
-
-        LocalDateTime startDateTime = Objects.requireNonNullElseGet(rangeStart, LocalDateTime::now);
-        spec = spec.and((root, query, cb) -> cb.greaterThan(root.get("eventDate"), startDateTime));
+        List<Event> page = events.subList(0, size);
+        return new CursorPage<>(page, EventCursor.after(page.get(size - 1), order).encode());
+    }
 
-        if (rangeEnd != null) {
-            spec = spec.and((root, query, cb) -> cb.lessThan(root.get("eventDate"), rangeEnd));
+    /**
+     * Views change between page requests, so a cursor over them would skip or repeat events; sorting by views
+     * is served with {@code from}/{@code size} paging only.
+     */
+    private EventCursor.Order toCursorOrder(String sort) {
+        if (sort == null || "EVENT_DATE".equals(sort)) {
+            return EventCursor.Order.EVENT_DATE;
         }
-
-        return spec;
+        throw new ValidationException("Sort " + sort + " is not supported with a cursor");
     }
 
     private PageRequest buildPageRequest(Integer from, Integer size, String sort) {
@@ -432,13 +532,20 @@ public class EventServiceImpl implements EventService {
             case "EVENT_DATE":
                 return PageRequest.of(from / size, size, Sort.by("eventDate"));
             case "VIEWS":
-                return PageRequest.of(from / size, size, Sort.by("views").descending());
+                return PageRequest.of(from / size, size, Sort.by(Sort.Order.desc("views"), Sort.Order.asc("id")));
+            case "RELEVANCE":
+                return PageRequest.of(from / size, size);
             default:
                 log.warn("Unknown sort parameter: {}", sort);
                 throw new ValidationException("Unknown sort: " + sort);
         }
     }
 
+    @PreDestroy
+    void stop() {
+        countExecutor.shutdownNow();
+    }
+
     private void validateDateRange(LocalDateTime rangeStart, LocalDateTime rangeEnd) {
         if (rangeStart != null && rangeEnd != null && rangeStart.isAfter(rangeEnd)) {
             log.error("Invalid date range: start {} is after end {}", rangeStart, rangeEnd);
@@ -1,25 +1,20 @@
 package ru.practicum.ewm.events.service;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.annotation.Timed;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import ru.practicum.StatClient;
 import ru.practicum.EndpointHitDto;
-import ru.practicum.ViewStats;
 import ru.practicum.ewm.events.EventMapper;
 import ru.practicum.ewm.events.dto.EventFullDtoWithViews;
 import ru.practicum.ewm.events.dto.EventShortDtoWithViews;
 import ru.practicum.ewm.events.dto.EventWithStats;
 import ru.practicum.ewm.events.model.Event;
-import ru.practicum.ewm.exceptions.NotFoundException;
-import ru.practicum.ewm.exceptions.ValidationException;
-import ru.practicum.ewm.requests.service.RequestService;
+import ru.practicum.ewm.stats.HitBuffer;
+import ru.practicum.ewm.stats.ViewsCache;
 
 import java.time.LocalDateTime;
 import java.util.Collections;
@@ -30,95 +25,45 @@ import java.util.stream.Collectors;
 @Service
 @RequiredArgsConstructor
 @Slf4j
+@Timed(value = "ewm.service", histogram = true)
 public class EventStatServiceImpl implements EventStatService {
-    private final StatClient statClient;
-    private final ObjectMapper objectMapper;
-    private final RequestService requestService;
+    private final HitBuffer hitBuffer;
+    private final ViewsCache viewsCache;
 
     @Value("${app}")
     private String app;
 
     @Override
     public List<EventFullDtoWithViews> addViewsToEvents(List<Event> events, Map<Long, Long> confirmedRequests) {
-        log.info("Starting to add views to {} events", events.size());
+        log.debug("Starting to add views to {} events", events.size());
 
         if (events.isEmpty()) {
             log.warn("Empty events list provided for views calculation");
             return Collections.emptyList();
         }
 
-        List<String> uris = events.stream()
-                .map(event -> {
-                    String uri = String.format("/events/%s", event.getId());
-                    log.trace("Preparing URI for event {}: {}", event.getId(), uri);
-                    return uri;
-                })
-                .collect(Collectors.toList());
-
-        LocalDateTime start = events.stream()
-                .map(Event::getCreatedOn)
-                .min(LocalDateTime::compareTo)
-                .orElseThrow(() -> {
-                    log.error("Could not determine start time for events");
-                    return new NotFoundException("Start time was not found");
-                });
-
-        log.debug("Fetching stats from {} to now for URIs: {}", start, uris);
-        ResponseEntity<Object> response = statClient.getStats(start, LocalDateTime.now(), uris, true);
-
-        List<ViewStats> statsDto;
-        try {
-            statsDto = objectMapper.convertValue(response.getBody(), new TypeReference<>() {});
-            log.debug("Received {} stats records", statsDto.size());
-        } catch (IllegalArgumentException e) {
-            log.error("Failed to parse stats response", e);
-            throw new ValidationException("Failed to parse stats response");
-        }
+        Map<Long, Long> views = viewsCache.getViews(events);
 
         List<EventFullDtoWithViews> result = events.stream()
                 .map(event -> {
-                    long views = statsDto.stream()
-                            .filter(stats -> stats.getUri().equals("/events/" + event.getId()))
-                            .findFirst()
-                            .map(ViewStats::getHits)
-                            .orElse(0L);
-
+                    long eventViews = views.getOrDefault(event.getId(), 0L);
                     long confirmed = confirmedRequests.getOrDefault(event.getId(), 0L);
                     log.trace("Event ID: {} - views: {}, confirmed requests: {}",
-                            event.getId(), views, confirmed);
+                            event.getId(), eventViews, confirmed);
 
-                    return EventMapper.toEventFullDtoWithViews(event, views, confirmed);
+                    return EventMapper.toEventFullDtoWithViews(event, eventViews, confirmed);
                 })
                 .collect(Collectors.toList());
 
-        log.info("Successfully added views to {} events", result.size());
+        log.debug("Successfully added views to {} events", result.size());
         return result;
     }
 
     @Override
     public EventFullDtoWithViews addViewsToEvent(Event event, Long confirmedRequests) {
-        log.info("Adding views to event ID: {}", event.getId());
-
-        String uri = "/events/" + event.getId();
-        log.debug("Fetching stats for URI: {}", uri);
-
-        ResponseEntity<Object> response = statClient.getStats(
-                event.getCreatedOn(),
-                LocalDateTime.now(),
-                List.of(uri),
-                true
-        );
-
-        List<ViewStats> statsDto;
-        try {
-            statsDto = objectMapper.convertValue(response.getBody(), new TypeReference<>() {});
-            log.debug("Received stats response for event {}: {}", event.getId(), statsDto);
-        } catch (IllegalArgumentException e) {
-            log.error("Failed to parse stats response for event {}", event.getId(), e);
-            throw new ValidationException("Failed to parse stats response");
-        }
+        log.debug("Adding views to event ID: {}", event.getId());
 
-        long views = statsDto.isEmpty() ? 0L : statsDto.get(0).getHits();
+        long views = viewsCache.getViews(event);
         log.debug("Event ID: {} has {} views and {} confirmed requests",
                 event.getId(), views, confirmedRequests);
 
@@ -127,7 +72,7 @@ public class EventStatServiceImpl implements EventStatService {
 
     @Override
     public void saveHit(HttpServletRequest request) {
-        log.info("Saving hit for URI: {} from IP: {}",
+        log.debug("Saving hit for URI: {} from IP: {}",
                 request.getRequestURI(), request.getRemoteAddr());
 
         EndpointHitDto hit = new EndpointHitDto(
@@ -137,19 +82,15 @@ public class EventStatServiceImpl implements EventStatService {
                 LocalDateTime.now()
         );
 
-        try {
-            statClient.saveHit(hit);
-            log.debug("Successfully saved hit for URI: {}", request.getRequestURI());
-        } catch (Exception e) {
-            log.error("Failed to save hit for URI: {}", request.getRequestURI(), e);
-            throw new RuntimeException("Failed to save hit", e);
+        if (hitBuffer.offer(hit)) {
+            log.debug("Hit for URI: {} queued for the stats-server", request.getRequestURI());
         }
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<EventFullDtoWithViews> getEventsWithStats(List<Event> events) {
-        log.info("Converting {} events to EventFullDtoWithViews", events.size());
+        log.debug("Converting {} events to EventFullDtoWithViews", events.size());
         List<EventFullDtoWithViews> result = getEventsWithViews(events).stream()
                 .map(eventWithViews -> EventMapper.toEventFullDtoWithViews(
                         eventWithViews.getEvent(),
@@ -157,14 +98,14 @@ public class EventStatServiceImpl implements EventStatService {
                         eventWithViews.getConfirmedRequests()
                 ))
                 .collect(Collectors.toList());
-        log.info("Successfully converted {} events to full DTOs with stats", result.size());
+        log.debug("Successfully converted {} events to full DTOs with stats", result.size());
         return result;
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<EventShortDtoWithViews> getShortEventsWithStats(List<Event> events) {
-        log.info("Converting {} events to EventShortDtoWithViews", events.size());
+        log.debug("Converting {} events to EventShortDtoWithViews", events.size());
         List<EventShortDtoWithViews> result = getEventsWithViews(events).stream()
                 .map(eventWithViews -> EventMapper.toEventShortDtoWithViews(
                         eventWithViews.getEvent(),
@@ -172,67 +113,27 @@ public class EventStatServiceImpl implements EventStatService {
                         eventWithViews.getConfirmedRequests()
                 ))
                 .collect(Collectors.toList());
-        log.info("Successfully converted {} events to short DTOs with stats", result.size());
+        log.debug("Successfully converted {} events to short DTOs with stats", result.size());
         return result;
     }
 
     private List<EventWithStats> getEventsWithViews(List<Event> events) {
         if (events.isEmpty()) {
-            log.info("No events provided for stats collection");
+            log.debug("No events provided for stats collection");
             return Collections.emptyList();
         }
 
-        log.info("Collecting stats for {} events", events.size());
+        log.debug("Collecting stats for {} events", events.size());
 
-        List<String> uris = events.stream()
-                .map(event -> String.format("/events/%s", event.getId()))
-                .collect(Collectors.toList());
-
-        LocalDateTime startDate = events.stream()
-                .map(Event::getCreatedOn)
-                .min(LocalDateTime::compareTo)
-                .orElse(LocalDateTime.now());
-
-        log.info("Requesting stats from {} to now for {} URIs", startDate, uris.size());
-        ResponseEntity<Object> response = statClient.getStats(
-                startDate,
-                LocalDateTime.now(),
-                uris,
-                true
-        );
+        Map<Long, Long> views = viewsCache.getViews(events);
 
-        List<Long> eventIds = events.stream().map(Event::getId).collect(Collectors.toList());
-        log.info("Requesting confirmed requests for {} event IDs", eventIds.size());
-        Map<Long, Long> confirmedRequests = requestService.getConfirmedRequestsCountForEvents(eventIds);
-
-        log.info("Combining stats for {} events", events.size());
+        log.debug("Combining stats for {} events", events.size());
         return events.stream()
-                .map(event -> {
-                    Long views = extractViewsFromResponse(response, event.getId());
-                    return new EventWithStats(
-                            event,
-                            views,
-                            confirmedRequests.getOrDefault(event.getId(), 0L)
-                    );
-                })
+                .map(event -> new EventWithStats(
+                        event,
+                        views.getOrDefault(event.getId(), 0L),
+                        event.getConfirmedRequests()
+                ))
                 .collect(Collectors.toList());
     }
-
-    private Long extractViewsFromResponse(ResponseEntity<Object> response, Long eventId) {
-        try {
-            log.info("Extracting views for event ID {}", eventId);
-            ObjectMapper mapper = new ObjectMapper();
-            List<ViewStats> statsDto = mapper.convertValue(response.getBody(), new TypeReference<>() {});
-            Long views = statsDto.stream()
-                    .filter(stat -> stat.getUri().equals("/events/" + eventId))
-                    .findFirst()
-                    .map(ViewStats::getHits)
-                    .orElse(0L);
-            log.info("Found {} views for event ID {}", views, eventId);
-            return views;
-        } catch (Exception e) {
-            log.error("Error parsing stats response for event {}", eventId, e);
-            return 0L;
-        }
-    }
-}
\ No newline at end of file
+}
@@ -21,7 +21,7 @@ public class EventValidationServiceImpl implements EventValidationService {
 
     @Override
     public void validateEventTime(LocalDateTime eventTime) {
-        log.info("Validating event time: {}", eventTime);
+        log.debug("Validating event time: {}", eventTime);
         if (eventTime.isBefore(LocalDateTime.now().plusHours(2))) {
             log.error("Event time validation failed: time must be at least 2 hours from now");
             throw new ValidationException("Event time must be at least 2 hours from now");
@@ -31,7 +31,7 @@ public class EventValidationServiceImpl implements EventValidationService {
 
     @Override
     public Event validateAndGetEvent(Long eventId) {
-        log.info("Validating and getting event by ID: {}", eventId);
+        log.debug("Validating and getting event by ID: {}", eventId);
         Event event = eventRepository.findById(eventId)
                 .orElseThrow(() -> {
                     log.error("Event not found with ID: {}", eventId);
@@ -43,7 +43,7 @@ public class EventValidationServiceImpl implements EventValidationService {
 
     @Override
     public Event validateAndGetEvent(Long eventId, Long userId) {
-        log.info("Validating and getting event ID: {} for user ID: {}", eventId, userId);
+        log.debug("Validating and getting event ID: {} for user ID: {}", eventId, userId);
         Event event = eventRepository.findByIdAndInitiatorId(eventId, userId)
                 .orElseThrow(() -> {
                     log.error("Event not found with ID: {} for user ID: {}", eventId, userId);
@@ -55,14 +55,14 @@ public class EventValidationServiceImpl implements EventValidationService {
 
     @Override
     public Location validateAndGetLocation(Location location) {
-        log.info("Validating and getting location: lat={}, lon={}", location.getLat(), location.getLon());
+        log.debug("Validating and getting location: lat={}, lon={}", location.getLat(), location.getLon());
         if (locationRepository.existsByLatAndLon(location.getLat(), location.getLon())) {
             Location existing = locationRepository.findByLatAndLon(location.getLat(), location.getLon());
             log.debug("Location already exists with ID: {}", existing.getId());
             return existing;
         }
         Location saved = locationRepository.save(location);
-        log.info("New location saved with ID: {}", saved.getId());
+        log.debug("New location saved with ID: {}", saved.getId());
         return saved;
     }
 }
@@ -23,7 +23,7 @@ public class ErrorHandler {
     @ExceptionHandler
     @ResponseStatus(HttpStatus.CONFLICT)
     public ApiError conflict(DataIntegrityViolationException e) {
-        log.error(stackTraceToString(e));
+        log.warn("{}: {}", e.getClass().getSimpleName(), e.getMessage());
         return ApiError.builder()
                 .message(e.getMessage())
                 .reason("Integrity constraint has been violated.")
@@ -35,7 +35,7 @@ public class ErrorHandler {
     @ExceptionHandler
     @ResponseStatus(HttpStatus.FORBIDDEN)
     public ApiError conflictEvent(ForbiddenException e) {
-        log.error(stackTraceToString(e));
+        log.warn("{}: {}", e.getClass().getSimpleName(), e.getMessage());
         return ApiError.builder()
                 .message(e.getMessage())
                 .reason("For the requested operation the conditions are not met.")
@@ -47,7 +47,7 @@ public class ErrorHandler {
     @ExceptionHandler
     @ResponseStatus(HttpStatus.NOT_FOUND)
     public ApiError notFound(NotFoundException e) {
-        log.error(stackTraceToString(e));
+        log.warn("{}: {}", e.getClass().getSimpleName(), e.getMessage());
         return ApiError.builder()
                 .message(e.getMessage())
                 .reason("The required object was not found.")
@@ -61,7 +61,7 @@ public class ErrorHandler {
             MissingServletRequestParameterException.class, ConstraintViolationException.class})
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     public ApiError badRequest(RuntimeException e) {
-        log.error(stackTraceToString(e));
+        log.warn("{}: {}", e.getClass().getSimpleName(), e.getMessage());
         return ApiError.builder()
                 .message(e.getMessage())
                 .reason("Incorrectly made request.")
@@ -0,0 +1,57 @@
+package ru.practicum.ewm.requests;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.ewm.compilations.CompilationsChangedEvent;
+import ru.practicum.ewm.events.EventRepository;
+import ru.practicum.ewm.requests.model.RequestStatus;
+
+import java.util.List;
+
+/**
+ * Repairs drift of {@code events.confirmed_requests} from the actual number of confirmed requests, e.g.
+ * after requests were changed directly in the database. Each candidate event is recounted in its own
+ * transaction while holding the event row lock that request confirmations and cancellations also take, so
+ * a concurrent change is either fully counted or waits for the repair.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ConfirmedRequestsReconciler {
+    private final EventRepository eventRepository;
+    private final RequestRepository requestRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Scheduled(fixedDelayString = "${requests.confirmed.reconcile.interval-ms:3600000}",
+            initialDelayString = "${requests.confirmed.reconcile.interval-ms:3600000}")
+    public void reconcile() {
+        List<Long> candidates = eventRepository.findIdsWithConfirmedRequestsDrift(RequestStatus.CONFIRMED);
+        int repaired = 0;
+        for (Long eventId : candidates) {
+            if (Boolean.TRUE.equals(transactionTemplate.execute(status -> reconcile(eventId)))) {
+                repaired++;
+            }
+        }
+        if (repaired > 0) {
+            log.warn("Repaired confirmed requests counter of {} events", repaired);
+        }
+    }
+
+    private boolean reconcile(Long eventId) {
+        long counter = eventRepository.lockConfirmedRequests(eventId);
+        long confirmed = requestRepository.countByEventIdAndStatus(eventId, RequestStatus.CONFIRMED);
+        if (counter == confirmed) {
+            return false;
+        }
+        eventRepository.setConfirmedRequests(eventId, confirmed);
+        eventPublisher.publishEvent(CompilationsChangedEvent.event(eventId));
+        log.debug("Confirmed requests counter of event ID: {} repaired from {} to {}", eventId, counter,
+                confirmed);
+        return true;
+    }
+}
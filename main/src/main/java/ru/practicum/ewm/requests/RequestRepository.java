@@ -2,9 +2,9 @@ package ru.practicum.ewm.requests;
 
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
-import org.springframework.data.repository.query.Param;
-import ru.practicum.ewm.requests.dto.ConfirmedRequests;
+import ru.practicum.ewm.requests.dto.ParticipationRequestDto;
 import ru.practicum.ewm.requests.model.ParticipationRequest;
 import ru.practicum.ewm.requests.model.RequestStatus;
 
@@ -17,15 +17,31 @@ public interface RequestRepository extends JpaRepository<ParticipationRequest, L
 
     List<ParticipationRequest> findAllByRequesterId(Long userId);
 
-    List<ParticipationRequest> findAllByEventIdAndIdInAndStatus(Long eventId, List<Long> requestId, RequestStatus status);
+    /**
+     * Reads the given requests of an event that are in {@code status} as DTOs, oldest first, without
+     * loading the entities.
+     */
+    @Query("SELECT new ru.practicum.ewm.requests.dto.ParticipationRequestDto(" +
+            "r.id, r.created, r.event.id, r.requester.id, r.status) " +
+            "FROM ParticipationRequest r " +
+            "WHERE r.event.id = :eventId AND r.id IN (:ids) AND r.status = :status " +
+            "ORDER BY r.created, r.id")
+    List<ParticipationRequestDto> findDtosByEventIdAndIdInAndStatus(Long eventId, List<Long> ids,
+                                                                     RequestStatus status);
+
+    @Modifying
+    @Query("UPDATE ParticipationRequest r SET r.status = :status WHERE r.id IN (:ids)")
+    void updateStatus(List<Long> ids, RequestStatus status);
+
+    @Modifying
+    @Query("UPDATE ParticipationRequest r SET r.status = :newStatus " +
+            "WHERE r.event.id = :eventId AND r.status = :status")
+    int updateStatusByEventId(Long eventId, RequestStatus status, RequestStatus newStatus);
 
     Boolean existsByRequesterIdAndEventId(Long userId, Long eventId);
 
     long countByEventIdAndStatus(Long eventId, RequestStatus status);
 
-    @Query("SELECT new ru.practicum.ewm.requests.dto.ConfirmedRequests(COUNT(DISTINCT r.id), r.event.id) " +
-            "FROM ParticipationRequest AS r " +
-            "WHERE r.event.id IN (:ids) AND r.status = :status " +
-            "GROUP BY (r.event)")
-    List<ConfirmedRequests> findAllByEventIdInAndStatus(@Param("ids")List<Long> ids, @Param("status")RequestStatus status);
+    @Query("SELECT r.status FROM ParticipationRequest r WHERE r.id = :requestId")
+    RequestStatus findStatusById(Long requestId);
 }
\ No newline at end of file
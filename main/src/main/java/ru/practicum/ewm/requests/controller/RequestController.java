@@ -27,9 +27,9 @@ public class RequestController {
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
     public ParticipationRequestDto addRequest(@PathVariable Long userId, @RequestParam Long eventId) {
-        log.info("User ID: {} creating new participation request for event ID: {}", userId, eventId);
+        log.debug("User ID: {} creating new participation request for event ID: {}", userId, eventId);
         ParticipationRequestDto result = requestService.addRequest(userId, eventId);
-        log.info("Created participation request ID: {} for user ID: {} to event ID: {}",
+        log.debug("Created participation request ID: {} for user ID: {} to event ID: {}",
                 result.getId(), userId, eventId);
         return result;
     }
@@ -37,9 +37,9 @@ public class RequestController {
     @PatchMapping("/{requestId}/cancel")
     @ResponseStatus(HttpStatus.OK)
     public ParticipationRequestDto cancelRequest(@PathVariable Long userId, @PathVariable Long requestId) {
-        log.info("User ID: {} canceling request ID: {}", userId, requestId);
+        log.debug("User ID: {} canceling request ID: {}", userId, requestId);
         ParticipationRequestDto result = requestService.cancelRequest(userId, requestId);
-        log.info("Request ID: {} canceled by user ID: {}, new status: {}",
+        log.debug("Request ID: {} canceled by user ID: {}, new status: {}",
                 requestId, userId, result.getStatus());
         return result;
     }
@@ -47,9 +47,9 @@ public class RequestController {
     @GetMapping
     @ResponseStatus(HttpStatus.OK)
     public List<ParticipationRequestDto> getRequestsByUser(@PathVariable Long userId) {
-        log.info("Getting all participation requests for user ID: {}", userId);
+        log.debug("Getting all participation requests for user ID: {}", userId);
         List<ParticipationRequestDto> result = requestService.getRequestsByUser(userId);
-        log.info("Found {} participation requests for user ID: {}", result.size(), userId);
+        log.debug("Found {} participation requests for user ID: {}", result.size(), userId);
         return result;
     }
 }
\ No newline at end of file
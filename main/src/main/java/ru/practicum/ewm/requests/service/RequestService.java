@@ -5,7 +5,6 @@ import ru.practicum.ewm.requests.dto.EventRequestStatusUpdateResult;
 import ru.practicum.ewm.requests.dto.ParticipationRequestDto;
 
 import java.util.List;
-import java.util.Map;
 
 public interface RequestService {
     ParticipationRequestDto addRequest(Long userId, Long eventId);
@@ -18,8 +17,4 @@ public interface RequestService {
     List<ParticipationRequestDto> getRequestsByEventOwner(Long userId, Long eventId);
 
     List<ParticipationRequestDto> getRequestsByUser(Long userId);
-
-    Long getConfirmedRequestsCountForEvent(Long eventId);
-
-    Map<Long, Long> getConfirmedRequestsCountForEvents(List<Long> eventIds);
 }
@@ -1,10 +1,14 @@
 package ru.practicum.ewm.requests.service;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.ewm.compilations.CompilationsChangedEvent;
+import ru.practicum.ewm.events.EventRepository;
 import ru.practicum.ewm.events.service.EventInfoService;
 import ru.practicum.ewm.events.model.Event;
 import ru.practicum.ewm.events.model.State;
@@ -18,27 +22,28 @@ import ru.practicum.ewm.requests.dto.ParticipationRequestDto;
 import ru.practicum.ewm.requests.model.ParticipationRequest;
 import ru.practicum.ewm.requests.model.RequestStatus;
 import ru.practicum.ewm.users.User;
-import ru.practicum.ewm.requests.dto.ConfirmedRequests;
 import ru.practicum.ewm.users.service.UserService;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Transactional
 @Slf4j
+@Timed(value = "ewm.service", histogram = true)
 public class RequestServiceImpl implements RequestService {
     private final RequestRepository requestRepository;
+    private final EventRepository eventRepository;
     private final EventInfoService eventInfoService;
     private final UserService userService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public ParticipationRequestDto addRequest(Long userId, Long eventId) {
-        log.info("Adding request for user ID: {} to event ID: {}", userId, eventId);
+        log.debug("Adding request for user ID: {} to event ID: {}", userId, eventId);
         Event event = eventInfoService.getEventEntityById(eventId);
 
         User user = getUser(userId);
@@ -59,7 +64,7 @@ public class RequestServiceImpl implements RequestService {
         }
 
         if (event.getParticipantLimit() != 0 &&
-                event.getParticipantLimit() <= requestRepository.countByEventIdAndStatus(eventId, RequestStatus.CONFIRMED)) {
+                event.getParticipantLimit() <= event.getConfirmedRequests()) {
             log.warn("Participant limit reached for event ID: {}", eventId);
             throw new DataIntegrityViolationException("Participant limit has been reached.");
         }
@@ -70,6 +75,14 @@ public class RequestServiceImpl implements RequestService {
         request.setRequester(user);
         request.setStatus(event.getRequestModeration() && event.getParticipantLimit() != 0 ? RequestStatus.PENDING : RequestStatus.CONFIRMED);
 
+        if (request.getStatus() == RequestStatus.CONFIRMED) {
+            if (eventRepository.reserveConfirmedRequest(eventId) == 0) {
+                log.warn("Participant limit reached for event ID: {}", eventId);
+                throw new DataIntegrityViolationException("Participant limit has been reached.");
+            }
+            eventPublisher.publishEvent(CompilationsChangedEvent.event(eventId));
+        }
+
         ParticipationRequest savedRequest = requestRepository.save(request);
         log.info("Request ID: {} created with status: {}", savedRequest.getId(), savedRequest.getStatus());
         return RequestMapper.toParticipationRequestDto(savedRequest);
@@ -78,7 +91,7 @@ public class RequestServiceImpl implements RequestService {
     @Override
     public EventRequestStatusUpdateResult updateRequestsStatus(Long userId, Long eventId,
                                                                EventRequestStatusUpdateRequest statusUpdateRequest) {
-        log.info("Updating request statuses by user ID: {} for event ID: {}", userId, eventId);
+        log.debug("Updating request statuses by user ID: {} for event ID: {}", userId, eventId);
 
         User initiator = getUser(userId);
         Event event = eventInfoService.getEventByOwner(userId, eventId);
@@ -88,34 +101,39 @@ public class RequestServiceImpl implements RequestService {
             throw new ValidationException("User isn't initiator.");
         }
 
-        long confirmedRequests = requestRepository.countByEventIdAndStatus(eventId, RequestStatus.CONFIRMED);
+        long confirmedRequests = eventRepository.lockConfirmedRequests(eventId);
         if (event.getParticipantLimit() > 0 && event.getParticipantLimit() <= confirmedRequests) {
             log.warn("Participant limit reached for event ID: {}", eventId);
             throw new DataIntegrityViolationException("The participant limit has been reached.");
         }
 
-        List<ParticipationRequest> requests = requestRepository.findAllByEventIdAndIdInAndStatus(eventId,
+        List<ParticipationRequestDto> requests = requestRepository.findDtosByEventIdAndIdInAndStatus(eventId,
                 statusUpdateRequest.getRequestIds(), RequestStatus.PENDING);
 
-        List<ParticipationRequestDto> confirmed = new ArrayList<>();
-        List<ParticipationRequestDto> rejected = new ArrayList<>();
-
-        for (int i = 0; i < requests.size(); i++) {
-            ParticipationRequest request = requests.get(i);
-            if (statusUpdateRequest.getStatus() == RequestStatus.REJECTED) {
-                request.setStatus(RequestStatus.REJECTED);
-                rejected.add(RequestMapper.toParticipationRequestDto(request));
-            } else if (statusUpdateRequest.getStatus() == RequestStatus.CONFIRMED &&
-                    event.getParticipantLimit() > 0 &&
-                    (confirmedRequests + i) < event.getParticipantLimit()) {
-                request.setStatus(RequestStatus.CONFIRMED);
-                confirmed.add(RequestMapper.toParticipationRequestDto(request));
-            } else {
-                request.setStatus(RequestStatus.REJECTED);
-                rejected.add(RequestMapper.toParticipationRequestDto(request));
-            }
+        long capacity = 0;
+        if (statusUpdateRequest.getStatus() == RequestStatus.CONFIRMED && event.getParticipantLimit() > 0) {
+            capacity = event.getParticipantLimit() - confirmedRequests;
+        }
+        int confirmedCount = (int) Math.min(capacity, requests.size());
+        List<ParticipationRequestDto> confirmed = new ArrayList<>(requests.subList(0, confirmedCount));
+        List<ParticipationRequestDto> rejected = new ArrayList<>(requests.subList(confirmedCount, requests.size()));
+
+        if (!confirmed.isEmpty()) {
+            confirmed.forEach(request -> request.setStatus(RequestStatus.CONFIRMED));
+            requestRepository.updateStatus(toIds(confirmed), RequestStatus.CONFIRMED);
+            eventRepository.addConfirmedRequests(eventId, confirmed.size());
+            eventPublisher.publishEvent(CompilationsChangedEvent.event(eventId));
+        }
+        if (!rejected.isEmpty()) {
+            rejected.forEach(request -> request.setStatus(RequestStatus.REJECTED));
+            requestRepository.updateStatus(toIds(rejected), RequestStatus.REJECTED);
+        }
+        if (event.getParticipantLimit() > 0 && confirmedRequests + confirmed.size() >= event.getParticipantLimit()) {
+            int autoRejected = requestRepository.updateStatusByEventId(eventId, RequestStatus.PENDING,
+                    RequestStatus.REJECTED);
+            log.debug("Participant limit of event ID: {} reached, rejected {} pending requests",
+                    eventId, autoRejected);
         }
-
         log.info("Updated {} requests: {} confirmed, {} rejected",
                 requests.size(), confirmed.size(), rejected.size());
         return new EventRequestStatusUpdateResult(confirmed, rejected);
@@ -124,8 +142,15 @@ public class RequestServiceImpl implements RequestService {
 
     @Override
     public ParticipationRequestDto cancelRequest(Long userId, Long requestId) {
-        log.info("Canceling request ID: {} by user ID: {}", requestId, userId);
+        log.debug("Canceling request ID: {} by user ID: {}", requestId, userId);
         ParticipationRequest request = requestRepository.findByIdAndRequesterId(requestId, userId);
+        Long eventId = request.getEvent().getId();
+        // the owner confirms requests under the same lock, so the status read after it is final
+        eventRepository.lockConfirmedRequests(eventId);
+        if (requestRepository.findStatusById(requestId) == RequestStatus.CONFIRMED) {
+            eventRepository.addConfirmedRequests(eventId, -1);
+            eventPublisher.publishEvent(CompilationsChangedEvent.event(eventId));
+        }
         request.setStatus(RequestStatus.CANCELED);
         log.info("Request ID: {} canceled successfully", requestId);
         return RequestMapper.toParticipationRequestDto(request);
@@ -134,7 +159,7 @@ public class RequestServiceImpl implements RequestService {
     @Override
     @Transactional(readOnly = true)
     public List<ParticipationRequestDto> getRequestsByEventOwner(Long userId, Long eventId) {
-        log.info("Getting requests for event ID: {} by owner ID: {}", eventId, userId);
+        log.debug("Getting requests for event ID: {} by owner ID: {}", eventId, userId);
         checkUser(userId);
         eventInfoService.getEventByOwner(userId, eventId);
 
@@ -142,40 +167,27 @@ public class RequestServiceImpl implements RequestService {
                 .map(RequestMapper::toParticipationRequestDto)
                 .collect(Collectors.toList());
 
-        log.info("Found {} requests for event ID: {}", requests.size(), eventId);
+        log.debug("Found {} requests for event ID: {}", requests.size(), eventId);
         return requests;
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<ParticipationRequestDto> getRequestsByUser(Long userId) {
-        log.info("Getting all requests for user ID: {}", userId);
+        log.debug("Getting all requests for user ID: {}", userId);
         checkUser(userId);
         List<ParticipationRequestDto> requests = requestRepository.findAllByRequesterId(userId).stream()
                 .map(RequestMapper::toParticipationRequestDto)
                 .collect(Collectors.toList());
 
-        log.info("Found {} requests for user ID: {}", requests.size(), userId);
+        log.debug("Found {} requests for user ID: {}", requests.size(), userId);
         return requests;
     }
 
-    @Override
-    @Transactional(readOnly = true)
-    public Long getConfirmedRequestsCountForEvent(Long eventId) {
-        log.debug("Getting confirmed requests count for event ID: {}", eventId);
-        return requestRepository.countByEventIdAndStatus(eventId, RequestStatus.CONFIRMED);
-    }
-
-    @Override
-    @Transactional(readOnly = true)
-    public Map<Long, Long> getConfirmedRequestsCountForEvents(List<Long> eventIds) {
-        log.debug("Getting confirmed requests count for events: {}", eventIds);
-        return requestRepository.findAllByEventIdInAndStatus(eventIds, RequestStatus.CONFIRMED)
-                .stream()
-                .collect(Collectors.toMap(
-                        ConfirmedRequests::getEvent,
-                        ConfirmedRequests::getCount
-                ));
+    private static List<Long> toIds(List<ParticipationRequestDto> requests) {
+        return requests.stream()
+                .map(ParticipationRequestDto::getId)
+                .collect(Collectors.toList());
     }
 
     private User getUser(Long userId) {
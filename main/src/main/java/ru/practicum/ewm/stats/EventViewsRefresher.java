@@ -0,0 +1,121 @@
+package ru.practicum.ewm.stats;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.StatClient;
+import ru.practicum.ewm.events.EventRepository;
+import ru.practicum.ewm.events.model.Event;
+import ru.practicum.ewm.events.model.State;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps {@code events.views} in step with the stats-server. Events whose page got a hit are marked dirty
+ * when the hit is flushed by {@link HitBuffer}, and their unique view counts are re-read in batches on a
+ * fixed delay. All published events are marked once at startup.
+ */
+@Slf4j
+@Component
+public class EventViewsRefresher {
+    private static final String EVENT_URI_PREFIX = "/events/";
+
+    private final EventRepository eventRepository;
+    private final StatClient statClient;
+    private final StatsCircuitBreaker circuitBreaker;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean approximate;
+    private final int batchSize;
+    private final Set<Long> dirtyIds = ConcurrentHashMap.newKeySet();
+
+    public EventViewsRefresher(EventRepository eventRepository,
+                               StatClient statClient,
+                               StatsCircuitBreaker circuitBreaker,
+                               TransactionTemplate transactionTemplate,
+                               @Value("${stats.views.approximate:false}") boolean approximate,
+                               @Value("${stats.views.refresh.batch-size:500}") int batchSize) {
+        this.eventRepository = eventRepository;
+        this.statClient = statClient;
+        this.circuitBreaker = circuitBreaker;
+        this.transactionTemplate = transactionTemplate;
+        this.approximate = approximate;
+        this.batchSize = batchSize;
+    }
+
+    public void markDirty(String uri) {
+        if (uri == null || !uri.startsWith(EVENT_URI_PREFIX)) {
+            return;
+        }
+        try {
+            dirtyIds.add(Long.parseLong(uri.substring(EVENT_URI_PREFIX.length())));
+        } catch (NumberFormatException e) {
+            log.trace("Ignoring hit for URI: {}", uri);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        dirtyIds.addAll(eventRepository.findIdsByState(State.PUBLISHED));
+    }
+
+    @Scheduled(fixedDelayString = "${stats.views.refresh.interval-ms:10000}")
+    public void refresh() {
+        while (!dirtyIds.isEmpty()) {
+            List<Long> batch = nextBatch();
+            if (!circuitBreaker.tryAcquire()) {
+                dirtyIds.addAll(batch);
+                return;
+            }
+            try {
+                refresh(batch);
+                circuitBreaker.onSuccess();
+            } catch (Exception e) {
+                circuitBreaker.onFailure();
+                dirtyIds.addAll(batch);
+                log.warn("Failed to refresh views of {} events", batch.size(), e);
+                return;
+            }
+        }
+    }
+
+    private List<Long> nextBatch() {
+        List<Long> batch = new ArrayList<>(batchSize);
+        Iterator<Long> iterator = dirtyIds.iterator();
+        while (iterator.hasNext() && batch.size() < batchSize) {
+            batch.add(iterator.next());
+            iterator.remove();
+        }
+        return batch;
+    }
+
+    private void refresh(List<Long> eventIds) {
+        List<Event> events = eventRepository.findAllById(eventIds);
+        if (events.isEmpty()) {
+            return;
+        }
+        LocalDateTime start = events.stream()
+                .map(Event::getCreatedOn)
+                .min(LocalDateTime::compareTo)
+                .orElseGet(LocalDateTime::now);
+        List<String> uris = events.stream()
+                .map(event -> EVENT_URI_PREFIX + event.getId())
+                .toList();
+
+        Map<String, Long> hitsByUri = statClient.getViews(start, LocalDateTime.now(), uris, true, approximate);
+        transactionTemplate.executeWithoutResult(status -> events.forEach(event -> {
+            long views = hitsByUri.getOrDefault(EVENT_URI_PREFIX + event.getId(), 0L);
+            eventRepository.updateViews(event.getId(), views);
+        }));
+        log.debug("Refreshed views of {} events", events.size());
+    }
+}
@@ -0,0 +1,144 @@
+package ru.practicum.ewm.stats;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import ru.practicum.EndpointHitDto;
+import ru.practicum.StatClient;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Bounded in-memory buffer of endpoint hits which are sent to the stats-server in batches
+ * by a single background worker. Request threads only enqueue and never wait on ingestion:
+ * when the buffer is full the hit is dropped and counted.
+ */
+@Slf4j
+@Component
+public class HitBuffer {
+    private final StatClient statClient;
+    private final StatsCircuitBreaker circuitBreaker;
+    private final EventViewsRefresher viewsRefresher;
+    private final BlockingQueue<EndpointHitDto> queue;
+    private final int batchSize;
+    private final long flushIntervalMs;
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private final ScheduledExecutorService worker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "stats-hit-flusher");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Counter droppedHits;
+    private final Counter failedHits;
+    private final Counter sentHits;
+    private final Timer flushTimer;
+
+    public HitBuffer(StatClient statClient,
+                     StatsCircuitBreaker circuitBreaker,
+                     EventViewsRefresher viewsRefresher,
+                     MeterRegistry meterRegistry,
+                     @Value("${stats.hits.buffer-capacity:10000}") int capacity,
+                     @Value("${stats.hits.batch-size:100}") int batchSize,
+                     @Value("${stats.hits.flush-interval-ms:500}") long flushIntervalMs) {
+        this.statClient = statClient;
+        this.circuitBreaker = circuitBreaker;
+        this.viewsRefresher = viewsRefresher;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+        this.flushIntervalMs = flushIntervalMs;
+
+        Gauge.builder("stats.hits.queue.depth", queue, BlockingQueue::size)
+                .description("Hits waiting to be sent to the stats-server")
+                .register(meterRegistry);
+        this.droppedHits = Counter.builder("stats.hits.dropped")
+                .description("Hits dropped because the buffer was full")
+                .register(meterRegistry);
+        this.failedHits = Counter.builder("stats.hits.failed")
+                .description("Hits lost because the stats-server rejected or did not answer a flush")
+                .register(meterRegistry);
+        this.sentHits = Counter.builder("stats.hits.sent")
+                .description("Hits delivered to the stats-server")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("stats.hits.flush")
+                .description("Time spent sending one batch of hits to the stats-server")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        worker.scheduleWithFixedDelay(this::flush, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        worker.shutdown();
+        if (!worker.awaitTermination(flushIntervalMs * 2, TimeUnit.MILLISECONDS)) {
+            worker.shutdownNow();
+        }
+        flush();
+    }
+
+    public boolean offer(EndpointHitDto hit) {
+        if (!queue.offer(hit)) {
+            droppedHits.increment();
+            log.debug("Hit buffer is full, dropping hit for URI: {}", hit.getUri());
+            return false;
+        }
+        if (queue.size() >= batchSize && !worker.isShutdown() && flushRequested.compareAndSet(false, true)) {
+            worker.execute(this::flush);
+        }
+        return true;
+    }
+
+    /**
+     * Sends queued hits while the stats-server circuit admits calls. While it is open hits stay queued,
+     * and once the buffer is full further hits are dropped.
+     */
+    void flush() {
+        flushRequested.set(false);
+        List<EndpointHitDto> batch = new ArrayList<>(batchSize);
+        while (!queue.isEmpty() && circuitBreaker.tryAcquire()) {
+            if (queue.drainTo(batch, batchSize) == 0) {
+                circuitBreaker.release();
+                break;
+            }
+            send(batch);
+            batch.clear();
+        }
+    }
+
+    private void send(List<EndpointHitDto> batch) {
+        Timer.Sample sample = Timer.start();
+        try {
+            ResponseEntity<Object> response = statClient.saveHits(batch);
+            if (!response.getStatusCode().is2xxSuccessful()) {
+                throw new IllegalStateException("Stats-server responded with " + response.getStatusCode());
+            }
+            circuitBreaker.onSuccess();
+            batch.forEach(hit -> viewsRefresher.markDirty(hit.getUri()));
+            sentHits.increment(batch.size());
+            log.debug("Flushed {} hits to the stats-server", batch.size());
+        } catch (Exception e) {
+            circuitBreaker.onFailure();
+            failedHits.increment(batch.size());
+            log.error("Failed to flush {} hits to the stats-server", batch.size(), e);
+        } finally {
+            sample.stop(flushTimer);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package ru.practicum.ewm.stats;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Circuit breaker shared by all calls to the stats-server. After {@code failure-threshold} consecutive
+ * failures the circuit opens and calls are refused for {@code open-duration}; then a single probe call is
+ * let through (half-open) which either closes the circuit again or reopens it.
+ */
+@Slf4j
+@Component
+public class StatsCircuitBreaker {
+    public enum State {
+        CLOSED, HALF_OPEN, OPEN
+    }
+
+    private final int failureThreshold;
+    private final Duration openDuration;
+    private final Clock clock;
+
+    private State state = State.CLOSED;
+    private int failures;
+    private Instant openedAt;
+    private boolean probeInFlight;
+
+    public StatsCircuitBreaker(MeterRegistry meterRegistry,
+                               @Value("${stats.circuit-breaker.failure-threshold:5}") int failureThreshold,
+                               @Value("${stats.circuit-breaker.open-duration:30s}") Duration openDuration,
+                               Clock clock) {
+        this.failureThreshold = failureThreshold;
+        this.openDuration = openDuration;
+        this.clock = clock;
+        Gauge.builder("stats.circuit.state", this, breaker -> breaker.getState().ordinal())
+                .description("Stats-server circuit state: 0 closed, 1 half-open, 2 open")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns whether a call may be made now. A caller that got {@code true} must report the outcome
+     * with {@link #onSuccess()} or {@link #onFailure()}, or give the permit back with {@link #release()}
+     * when it made no call after all.
+     */
+    public synchronized boolean tryAcquire() {
+        if (state == State.OPEN && !clock.instant().isBefore(openedAt.plus(openDuration))) {
+            state = State.HALF_OPEN;
+            probeInFlight = false;
+            log.info("Stats-server circuit is half-open, probing");
+        }
+        return switch (state) {
+            case CLOSED -> true;
+            case OPEN -> false;
+            case HALF_OPEN -> {
+                if (probeInFlight) {
+                    yield false;
+                }
+                probeInFlight = true;
+                yield true;
+            }
+        };
+    }
+
+    public synchronized void onSuccess() {
+        if (state != State.CLOSED) {
+            log.info("Stats-server circuit is closed again");
+        }
+        state = State.CLOSED;
+        failures = 0;
+        probeInFlight = false;
+    }
+
+    /**
+     * Returns a permit that was not used for a call. The state is left as is, so a half-open circuit lets
+     * the next caller probe instead of closing without evidence that the stats-server is back.
+     */
+    public synchronized void release() {
+        if (state == State.HALF_OPEN) {
+            probeInFlight = false;
+        }
+    }
+
+    public synchronized void onFailure() {
+        failures++;
+        if (state == State.HALF_OPEN || (state == State.CLOSED && failures >= failureThreshold)) {
+            state = State.OPEN;
+            openedAt = clock.instant();
+            probeInFlight = false;
+            log.warn("Stats-server circuit opened after {} consecutive failures", failures);
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+}
@@ -0,0 +1,145 @@
+package ru.practicum.ewm.stats;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import ru.practicum.AsyncStatClient;
+import ru.practicum.ewm.events.model.Event;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+/**
+ * Short-lived cache of unique view counts per event id. Misses of a whole page are loaded with a single
+ * stats-server request; counts may lag behind the stats-server by up to {@code stats.views.cache.ttl}.
+ *
+ * <p>While the stats-server fails or the {@link StatsCircuitBreaker} is open, misses are answered with the
+ * last known count of the event (or 0) and the response is marked with the {@value #STALE_HEADER} header.
+ */
+@Slf4j
+@Component
+public class ViewsCache {
+    public static final String STALE_HEADER = "X-Views-Stale";
+
+    private final AsyncStatClient asyncStatClient;
+    private final StatsCircuitBreaker circuitBreaker;
+    private final boolean approximate;
+    private final Cache<Long, Long> views;
+    private final Cache<Long, Long> lastKnownViews;
+
+    public ViewsCache(AsyncStatClient asyncStatClient,
+                      StatsCircuitBreaker circuitBreaker,
+                      MeterRegistry meterRegistry,
+                      @Value("${stats.views.approximate:false}") boolean approximate,
+                      @Value("${stats.views.cache.ttl:30s}") Duration ttl,
+                      @Value("${stats.views.cache.max-size:10000}") long maxSize,
+                      @Value("${stats.views.cache.last-known-max-size:100000}") long lastKnownMaxSize) {
+        this.asyncStatClient = asyncStatClient;
+        this.circuitBreaker = circuitBreaker;
+        this.approximate = approximate;
+        this.views = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+        this.lastKnownViews = Caffeine.newBuilder()
+                .maximumSize(lastKnownMaxSize)
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, views, "event-views");
+    }
+
+    public long getViews(Event event) {
+        return getViews(List.of(event)).getOrDefault(event.getId(), 0L);
+    }
+
+    public Map<Long, Long> getViews(List<Event> events) {
+        return getViewsAsync(events).join();
+    }
+
+    /**
+     * Like {@link #getViews(List)}, but misses are loaded on a virtual thread so the caller can do other
+     * work meanwhile. The future never fails: stats-server errors and timeouts fall back to stale counts,
+     * which are not cached.
+     */
+    public CompletableFuture<Map<Long, Long>> getViewsAsync(List<Event> events) {
+        Map<Long, LocalDateTime> createdOn = events.stream()
+                .collect(Collectors.toMap(Event::getId, Event::getCreatedOn, (first, second) -> first));
+        Map<Long, Long> cached = views.getAllPresent(createdOn.keySet());
+        if (cached.size() == createdOn.size()) {
+            return CompletableFuture.completedFuture(cached);
+        }
+
+        Set<Long> missing = new HashSet<>(createdOn.keySet());
+        missing.removeAll(cached.keySet());
+        RequestAttributes request = RequestContextHolder.getRequestAttributes();
+        if (!circuitBreaker.tryAcquire()) {
+            return CompletableFuture.completedFuture(merge(cached, fallback(missing, request)));
+        }
+
+        LocalDateTime start = missing.stream()
+                .map(createdOn::get)
+                .min(LocalDateTime::compareTo)
+                .orElseGet(LocalDateTime::now);
+        List<String> uris = missing.stream()
+                .map(ViewsCache::toUri)
+                .collect(Collectors.toList());
+
+        log.debug("Loading views for {} events from {}", missing.size(), start);
+        return asyncStatClient.getViews(start, LocalDateTime.now(), uris, true, approximate)
+                .handle((hitsByUri, e) -> {
+                    if (e != null) {
+                        circuitBreaker.onFailure();
+                        log.warn("Failed to load views for {} events, serving stale counts", missing.size(), e);
+                        return merge(cached, fallback(missing, request));
+                    }
+                    circuitBreaker.onSuccess();
+                    Map<Long, Long> loaded = new HashMap<>();
+                    for (Long eventId : missing) {
+                        loaded.put(eventId, hitsByUri.getOrDefault(toUri(eventId), 0L));
+                    }
+                    views.putAll(loaded);
+                    lastKnownViews.putAll(loaded);
+                    return merge(cached, loaded);
+                });
+    }
+
+    /**
+     * Last known counts for the given events. The response header is set from the loading thread, which is
+     * safe because the request thread waits for the views before it writes the response.
+     */
+    private Map<Long, Long> fallback(Set<Long> eventIds, RequestAttributes request) {
+        if (request instanceof ServletRequestAttributes attributes && attributes.getResponse() != null) {
+            attributes.getResponse().setHeader(STALE_HEADER, "true");
+        }
+        Map<Long, Long> known = lastKnownViews.getAllPresent(eventIds);
+        Map<Long, Long> result = new HashMap<>();
+        for (Long eventId : eventIds) {
+            result.put(eventId, known.getOrDefault(eventId, 0L));
+        }
+        return result;
+    }
+
+    private static Map<Long, Long> merge(Map<Long, Long> cached, Map<Long, Long> loaded) {
+        Map<Long, Long> result = new HashMap<>(cached);
+        result.putAll(loaded);
+        return result;
+    }
+
+    private static String toUri(Long eventId) {
+        return "/events/" + eventId;
+    }
+}
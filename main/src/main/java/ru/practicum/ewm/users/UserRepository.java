@@ -2,10 +2,13 @@ package ru.practicum.ewm.users;
 
 
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.List;
 
 public interface UserRepository extends JpaRepository<User, Long> {
-    List<User> findAllByIdIn(List<Long> userIds, Pageable pageable);
+    Slice<User> findAllBy(Pageable pageable);
+
+    Slice<User> findAllByIdIn(List<Long> userIds, Pageable pageable);
 }
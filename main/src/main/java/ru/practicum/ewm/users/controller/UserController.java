@@ -34,9 +34,9 @@ public class UserController {
     @PostMapping
     @ResponseStatus(value = HttpStatus.CREATED)
     public UserDto addUser(@RequestBody @Valid NewUserRequest newUserRequest) {
-        log.info("Admin creating new user with email: {}", newUserRequest.getEmail());
+        log.debug("Admin creating new user with email: {}", newUserRequest.getEmail());
         UserDto createdUser = userService.addUser(newUserRequest);
-        log.info("Admin successfully created user with ID: {} and email: {}",
+        log.debug("Admin successfully created user with ID: {} and email: {}",
                 createdUser.getId(), createdUser.getEmail());
         return createdUser;
     }
@@ -46,17 +46,17 @@ public class UserController {
     public List<UserDto> getUsers(@RequestParam(value = "ids", required = false) List<Long> ids,
                                   @RequestParam(value = "from", defaultValue = "0") @PositiveOrZero Integer from,
                                   @RequestParam(value = "size", defaultValue = "10") @Positive Integer size) {
-        log.info("Admin requesting users list with parameters: ids={}, from={}, size={}", ids, from, size);
+        log.debug("Admin requesting users list with parameters: ids={}, from={}, size={}", ids, from, size);
         List<UserDto> users = userService.getUsers(ids, from, size);
-        log.info("Admin retrieved {} users", users.size());
+        log.debug("Admin retrieved {} users", users.size());
         return users;
     }
 
     @DeleteMapping("/{userId}")
     @ResponseStatus(value = HttpStatus.NO_CONTENT)
     public void deleteUser(@PathVariable Long userId) {
-        log.info("Admin deleting user with ID: {}", userId);
+        log.debug("Admin deleting user with ID: {}", userId);
         userService.deleteUser(userId);
-        log.info("Admin successfully deleted user with ID: {}", userId);
+        log.debug("Admin successfully deleted user with ID: {}", userId);
     }
 }
\ No newline at end of file
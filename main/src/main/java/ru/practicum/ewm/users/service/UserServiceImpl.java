@@ -25,7 +25,7 @@ public class UserServiceImpl implements UserService {
 
     @Override
     public UserDto addUser(NewUserRequest newUserRequest) {
-        log.info("Creating new user with email: {}", newUserRequest.getEmail());
+        log.debug("Creating new user with email: {}", newUserRequest.getEmail());
         User user = UserMapper.toUser(newUserRequest);
         User savedUser = userRepository.save(user);
         log.info("Successfully created user with ID: {}", savedUser.getId());
@@ -35,12 +35,12 @@ public class UserServiceImpl implements UserService {
     @Override
     @Transactional(readOnly = true)
     public List<UserDto> getUsers(List<Long> userIds, Integer from, Integer size) {
-        log.info("Fetching users with IDs: {}, from: {}, size: {}", userIds, from, size);
+        log.debug("Fetching users with IDs: {}, from: {}, size: {}", userIds, from, size);
         Pageable pageable = PageRequest.of(from / size, size);
 
         List<UserDto> result;
         if (userIds == null) {
-            result = userRepository.findAll(pageable)
+            result = userRepository.findAllBy(pageable)
                     .map(UserMapper::toUserDto)
                     .getContent();
         } else {
@@ -50,13 +50,13 @@ public class UserServiceImpl implements UserService {
                     .collect(Collectors.toList());
         }
 
-        log.info("Found {} users matching criteria", result.size());
+        log.debug("Found {} users matching criteria", result.size());
         return result;
     }
 
     @Override
     public void deleteUser(Long userId) {
-        log.info("Deleting user with ID: {}", userId);
+        log.debug("Deleting user with ID: {}", userId);
         if (!userRepository.existsById(userId)) {
             log.error("User not found with ID: {}", userId);
             throw new NotFoundException("User with id=" + userId + " was not found");
@@ -68,7 +68,7 @@ public class UserServiceImpl implements UserService {
     @Override
     @Transactional(readOnly = true)
     public User getUserById(Long userId) {
-        log.info("Getting user by ID: {}", userId);
+        log.debug("Getting user by ID: {}", userId);
         return userRepository.findById(userId)
                 .orElseThrow(() -> {
                     return new NotFoundException("User with id=" + userId + " was not found");
@@ -39,9 +39,20 @@ CREATE TABLE IF NOT EXISTS events(
     published_on       TIMESTAMP,
     request_moderation BOOLEAN,
     state              VARCHAR(10),
-    title              VARCHAR(120) NOT NULL
+    title              VARCHAR(120) NOT NULL,
+    views              BIGINT NOT NULL DEFAULT 0,
+    confirmed_requests BIGINT NOT NULL DEFAULT 0
     );
 
+-- Trigram indexes serve the case-insensitive substring search of public events: LOWER(column) LIKE '%text%'
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE INDEX IF NOT EXISTS events_annotation_trgm_idx ON events USING GIN (LOWER(annotation) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS events_description_trgm_idx ON events USING GIN (LOWER(description) gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS events_event_date_id_idx ON events (event_date, id);
+CREATE INDEX IF NOT EXISTS events_initiator_id_idx ON events (initiator_id, id);
+CREATE INDEX IF NOT EXISTS events_published_views_idx ON events (views DESC, id) WHERE state = 'PUBLISHED';
+
 CREATE TABLE IF NOT EXISTS compilations(
     id     BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
     pinned BOOLEAN,
@@ -54,12 +65,15 @@ CREATE TABLE IF NOT EXISTS compilation_event(
     PRIMARY KEY (compilation_id, event_id)
     );
 
+CREATE INDEX IF NOT EXISTS compilation_event_event_id_idx ON compilation_event (event_id);
+
 CREATE TABLE IF NOT EXISTS requests(
     id           BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
     created      TIMESTAMP,
     event_id     BIGINT REFERENCES events(id),
     requester_id BIGINT REFERENCES users(id),
-    status       VARCHAR(50)
+    status       VARCHAR(50),
+    UNIQUE (requester_id, event_id)
     );
 
 
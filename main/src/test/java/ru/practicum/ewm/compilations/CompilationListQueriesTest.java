@@ -0,0 +1,121 @@
+package ru.practicum.ewm.compilations;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import ru.practicum.ewm.categories.Category;
+import ru.practicum.ewm.compilations.dto.CompilationDto;
+import ru.practicum.ewm.compilations.service.CompilationService;
+import ru.practicum.ewm.compilations.service.CompilationServiceImpl;
+import ru.practicum.ewm.events.model.Event;
+import ru.practicum.ewm.events.model.State;
+import ru.practicum.ewm.locations.Location;
+import ru.practicum.ewm.users.User;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A compilation listing costs the page query plus one query for the events of the whole page, with every
+ * association the DTOs read, whatever the number of compilations on the page; a single compilation is
+ * loaded with its events in one query.
+ */
+@DataJpaTest
+@ActiveProfiles("h2")
+@Import(CompilationServiceImpl.class)
+class CompilationListQueriesTest {
+    private static final int COMPILATIONS = 12;
+    private static final int EVENTS_PER_COMPILATION = 3;
+
+    @Autowired
+    private CompilationService compilationService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < COMPILATIONS; i++) {
+            Set<Event> events = new HashSet<>();
+            for (int j = 0; j < EVENTS_PER_COMPILATION; j++) {
+                events.add(persistEvent(i * EVENTS_PER_COMPILATION + j));
+            }
+            Compilation compilation = new Compilation("Compilation " + i, true);
+            compilation.setEvents(events);
+            entityManager.persist(compilation);
+        }
+        entityManager.flush();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4, 12})
+    void listingUsesTwoStatementsPerPage(int size) {
+        assertThat(countStatements(() -> compilationService.getCompilations(true, 0, size))).isEqualTo(2);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4, 12})
+    void unfilteredListingUsesTwoStatementsPerPage(int size) {
+        assertThat(countStatements(() -> compilationService.getCompilations(null, 0, size))).isEqualTo(2);
+    }
+
+    @Test
+    void singleCompilationUsesOneStatement() {
+        Long compilationId = entityManager.getEntityManager()
+                .createQuery("SELECT MIN(c.id) FROM Compilation c", Long.class)
+                .getSingleResult();
+
+        assertThat(countStatements(() -> List.of(compilationService.getCompilationById(compilationId))))
+                .isEqualTo(1);
+    }
+
+    private Event persistEvent(int i) {
+        User initiator = entityManager.persist(new User("User " + i, "user" + i + "@example.com"));
+        Category category = entityManager.persist(new Category("Category " + i));
+        Location location = entityManager.persist(new Location((float) i, (float) i));
+        return entityManager.persist(Event.builder()
+                .annotation("Annotation of event " + i)
+                .description("Description of event number " + i)
+                .title("Event " + i)
+                .category(category)
+                .initiator(initiator)
+                .location(location)
+                .createdOn(LocalDateTime.now())
+                .eventDate(LocalDateTime.now().plusDays(i + 1))
+                .publishedOn(LocalDateTime.now())
+                .paid(false)
+                .participantLimit(0)
+                .requestModeration(false)
+                .state(State.PUBLISHED)
+                .build());
+    }
+
+    private long countStatements(Supplier<List<CompilationDto>> listing) {
+        entityManager.clear();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<CompilationDto> compilations = listing.get();
+
+        assertThat(compilations).isNotEmpty()
+                .allSatisfy(compilation -> assertThat(compilation.getEvents()).hasSize(EVENTS_PER_COMPILATION));
+        return statistics.getPrepareStatementCount();
+    }
+}
@@ -0,0 +1,94 @@
+package ru.practicum.ewm.compilations;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import ru.practicum.ewm.compilations.dto.CompilationDto;
+import ru.practicum.ewm.compilations.service.CompilationService;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CompilationReadModelTest {
+    private final CompilationService compilationService = mock(CompilationService.class);
+    private final CompilationRepository compilationRepository = mock(CompilationRepository.class);
+    private CompilationReadModel readModel;
+
+    @BeforeEach
+    void setUp() {
+        readModel = new CompilationReadModel(compilationService, compilationRepository, new ObjectMapper(),
+                new SimpleMeterRegistry(), Duration.ofMinutes(10), 100);
+        when(compilationService.getCompilationById(any()))
+                .thenAnswer(invocation -> compilation(invocation.getArgument(0), "Title"));
+        when(compilationService.getCompilations(any(), any(), any())).thenReturn(List.of());
+    }
+
+    @Test
+    void changeOfEventOutsideCompilationsKeepsEverything() {
+        when(compilationRepository.findIdsByEventId(7L)).thenReturn(List.of());
+        readModel.getCompilationById(1L);
+        readModel.getCompilations(true, 0, 10);
+
+        readModel.onChange(CompilationsChangedEvent.event(7L));
+        readModel.getCompilationById(1L);
+        readModel.getCompilations(true, 0, 10);
+
+        verify(compilationService, times(1)).getCompilationById(1L);
+        verify(compilationService, times(1)).getCompilations(true, 0, 10);
+    }
+
+    @Test
+    void changeOfEventDropsContainingCompilationsAndListings() {
+        when(compilationRepository.findIdsByEventId(7L)).thenReturn(List.of(1L));
+        readModel.getCompilationById(1L);
+        readModel.getCompilationById(2L);
+        readModel.getCompilations(true, 0, 10);
+
+        readModel.onChange(CompilationsChangedEvent.event(7L));
+        readModel.getCompilationById(1L);
+        readModel.getCompilationById(2L);
+        readModel.getCompilations(true, 0, 10);
+
+        verify(compilationService, times(2)).getCompilationById(1L);
+        verify(compilationService, times(1)).getCompilationById(2L);
+        verify(compilationService, times(2)).getCompilations(true, 0, 10);
+    }
+
+    @Test
+    void loadInFlightWhileCacheIsClearedIsNotServedAgain() {
+        AtomicInteger loads = new AtomicInteger();
+        when(compilationService.getCompilationById(1L)).thenAnswer(invocation -> {
+            if (loads.incrementAndGet() == 1) {
+                // the change commits after this load has read the old data
+                readModel.onChange(CompilationsChangedEvent.any());
+                return compilation(1L, "Old");
+            }
+            return compilation(1L, "New");
+        });
+
+        String first = new String(readModel.getCompilationById(1L), StandardCharsets.UTF_8);
+        String second = new String(readModel.getCompilationById(1L), StandardCharsets.UTF_8);
+
+        assertThat(first).contains("New");
+        assertThat(second).contains("New");
+        assertThat(loads).hasValue(2);
+    }
+
+    private static CompilationDto compilation(Long id, String title) {
+        CompilationDto compilation = new CompilationDto();
+        compilation.setId(id);
+        compilation.setTitle(title);
+        compilation.setEvents(List.of());
+        return compilation;
+    }
+}
@@ -0,0 +1,132 @@
+package ru.practicum.ewm.events;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.test.context.ActiveProfiles;
+import ru.practicum.ewm.categories.Category;
+import ru.practicum.ewm.events.model.Event;
+import ru.practicum.ewm.events.model.State;
+import ru.practicum.ewm.locations.Location;
+import ru.practicum.ewm.users.User;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Every event list path loads a page, with the category, initiator and location of each event, in a single
+ * statement whatever the page size. Each event has its own category, initiator and location, so a missing
+ * fetch plan shows up as extra statements that grow with the page.
+ */
+@DataJpaTest
+@ActiveProfiles("h2")
+class EventListQueriesTest {
+    private static final int EVENTS = 30;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private User owner;
+
+    @BeforeEach
+    void setUp() {
+        owner = entityManager.persist(new User("Owner", "owner@example.com"));
+        for (int i = 0; i < EVENTS; i++) {
+            User initiator = i % 2 == 0
+                    ? owner
+                    : entityManager.persist(new User("User " + i, "user" + i + "@example.com"));
+            Category category = entityManager.persist(new Category("Category " + i));
+            Location location = entityManager.persist(new Location((float) i, (float) i));
+            entityManager.persist(Event.builder()
+                    .annotation("Annotation of event " + i)
+                    .description("Description of event number " + i)
+                    .title("Event " + i)
+                    .category(category)
+                    .initiator(initiator)
+                    .location(location)
+                    .createdOn(LocalDateTime.now())
+                    .eventDate(LocalDateTime.now().plusDays(i + 1))
+                    .publishedOn(LocalDateTime.now())
+                    .paid(false)
+                    .participantLimit(0)
+                    .requestModeration(false)
+                    .state(State.PUBLISHED)
+                    .build());
+        }
+        entityManager.flush();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 5, 10})
+    void publicSearchUsesOneStatementPerPage(int size) {
+        Specification<Event> specification = EventSpecifications.forPublic(null, null, null, null, null, false);
+
+        assertThat(countStatements(() -> eventRepository.findSlice(specification,
+                PageRequest.of(0, size, Sort.by("eventDate"))).getContent())).isEqualTo(1);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 5, 10})
+    void adminSearchUsesOneStatementPerPage(int size) {
+        Specification<Event> specification = EventSpecifications.forAdmin(null, List.of("PUBLISHED"), null, null,
+                null);
+
+        assertThat(countStatements(() -> eventRepository.findSlice(specification, PageRequest.of(0, size))
+                .getContent())).isEqualTo(1);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 5, 10})
+    void ownerEventsUseOneStatementPerPage(int size) {
+        assertThat(countStatements(() -> eventRepository.findAllByInitiatorId(owner.getId(),
+                PageRequest.of(0, size)))).isEqualTo(1);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 5, 10})
+    void cursorPageUsesOneStatementPerPage(int size) {
+        Specification<Event> specification = EventSpecifications.forPublic(null, null, null, null, null, false);
+
+        assertThat(countStatements(() -> eventRepository.findBy(specification, query -> query
+                .project("category", "initiator", "location")
+                .sortBy(EventCursor.Order.EVENT_DATE.getSort())
+                .limit(size + 1)
+                .all()))).isEqualTo(1);
+    }
+
+    /**
+     * Runs the query on an empty persistence context and touches every association a list DTO reads.
+     */
+    private long countStatements(Supplier<List<Event>> query) {
+        entityManager.clear();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<Event> events = query.get();
+        events.forEach(event -> {
+            EventMapper.toEventShortDto(event, event.getConfirmedRequests());
+            EventMapper.toEventFullDto(event, event.getConfirmedRequests());
+        });
+
+        assertThat(events).isNotEmpty();
+        return statistics.getPrepareStatementCount();
+    }
+}
@@ -0,0 +1,137 @@
+package ru.practicum.ewm.events.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import ru.practicum.ewm.categories.Category;
+import ru.practicum.ewm.events.EventRepository;
+import ru.practicum.ewm.events.EventSpecifications;
+import ru.practicum.ewm.events.model.Event;
+import ru.practicum.ewm.events.model.State;
+import ru.practicum.ewm.locations.Location;
+import ru.practicum.ewm.users.User;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The index answers every combination of public filters with the same events, in the same order, as the SQL
+ * search it replaces.
+ */
+@DataJpaTest
+@ActiveProfiles("h2")
+class EventSearchIndexParityTest {
+    private static final int EVENTS = 80;
+    private static final String[] WORDS = {"Jazz", "night", "rock", "opera", "open air", "Festival", "jazzy"};
+    private static final LocalDateTime NOW = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private final List<Long> categoryIds = new ArrayList<>();
+    private EventSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        Random random = new Random(42);
+        User initiator = entityManager.persist(new User("Initiator", "initiator@example.com"));
+        Location location = entityManager.persist(new Location(0f, 0f));
+        for (int i = 0; i < 3; i++) {
+            categoryIds.add(entityManager.persist(new Category("Category " + i)).getId());
+        }
+        State[] states = State.values();
+        for (int i = 0; i < EVENTS; i++) {
+            entityManager.persist(Event.builder()
+                    .annotation(text(random) + " " + i)
+                    .title("Event " + i)
+                    .description("Description of " + text(random) + " event")
+                    .category(entityManager.find(Category.class, categoryIds.get(random.nextInt(categoryIds.size()))))
+                    .initiator(initiator)
+                    .location(location)
+                    .createdOn(NOW)
+                    // few distinct dates, so several events share a date bucket
+                    .eventDate(NOW.plusDays(random.nextInt(30) - 5))
+                    .publishedOn(NOW)
+                    .paid(random.nextBoolean())
+                    .participantLimit(random.nextInt(4) == 0 ? null : random.nextInt(3))
+                    .requestModeration(false)
+                    .state(random.nextInt(4) == 0 ? states[random.nextInt(states.length)] : State.PUBLISHED)
+                    .build());
+        }
+        entityManager.flush();
+        index = new EventSearchIndex(eventRepository, true);
+        index.build();
+    }
+
+    @Test
+    void matchesSqlSearchForEveryFilterCombination() {
+        List<String> texts = Arrays.asList(null, "jazz", "AZZ N", "ni", "open air", "missing");
+        List<List<Long>> categories = Arrays.asList(null, List.of(categoryIds.get(0)),
+                List.of(categoryIds.get(1), categoryIds.get(2)));
+        List<Boolean> paid = Arrays.asList(null, true, false);
+        List<Boolean> onlyAvailable = Arrays.asList(null, true);
+        List<LocalDateTime[]> ranges = List.of(
+                new LocalDateTime[]{NOW, null},
+                new LocalDateTime[]{NOW.minusDays(3), NOW.plusDays(10)},
+                new LocalDateTime[]{NOW.plusDays(5), NOW.plusDays(5)},
+                new LocalDateTime[]{NOW, NOW.minusYears(1)});
+
+        int compared = 0;
+        for (String text : texts) {
+            for (List<Long> categoryFilter : categories) {
+                for (Boolean paidFilter : paid) {
+                    for (Boolean availableFilter : onlyAvailable) {
+                        for (LocalDateTime[] range : ranges) {
+                            assertThat(index.search(text, categoryFilter, paidFilter, range[0], range[1],
+                                    availableFilter, true, 0, EVENTS))
+                                    .as("text=%s categories=%s paid=%s available=%s range=%s", text,
+                                            categoryFilter, paidFilter, availableFilter, Arrays.toString(range))
+                                    .isEqualTo(sqlSearch(text, categoryFilter, paidFilter, range[0], range[1],
+                                            availableFilter, 0, EVENTS));
+                            compared++;
+                        }
+                    }
+                }
+            }
+        }
+        assertThat(compared).isEqualTo(432);
+    }
+
+    @Test
+    void pagesMatchSqlPages() {
+        int size = 7;
+        for (int from = 0; from < EVENTS; from += size) {
+            assertThat(index.search(null, null, null, NOW.minusDays(10), null, null, true, from, size))
+                    .as("from=%d", from)
+                    .isEqualTo(sqlSearch(null, null, null, NOW.minusDays(10), null, null, from, size));
+        }
+    }
+
+    private List<Long> sqlSearch(String text, List<Long> categories, Boolean paid, LocalDateTime rangeStart,
+                                 LocalDateTime rangeEnd, Boolean onlyAvailable, int from, int size) {
+        return eventRepository.findSlice(
+                        EventSpecifications.forPublic(text, categories, paid, rangeStart, rangeEnd, onlyAvailable),
+                        PageRequest.of(from / size, size, Sort.by("eventDate", "id")))
+                .getContent().stream()
+                .map(Event::getId)
+                .toList();
+    }
+
+    private static String text(Random random) {
+        return WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)];
+    }
+}
@@ -0,0 +1,182 @@
+package ru.practicum.ewm.events.search;
+
+import org.junit.jupiter.api.Test;
+import ru.practicum.ewm.categories.Category;
+import ru.practicum.ewm.events.EventRepository;
+import ru.practicum.ewm.events.model.Event;
+import ru.practicum.ewm.events.model.State;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class EventSearchIndexTest {
+    private static final LocalDateTime NOW = LocalDateTime.of(2030, 1, 1, 12, 0);
+    private static final String DESCRIPTION = "Description long enough for an event";
+
+    private final EventRepository eventRepository = mock(EventRepository.class);
+    private final EventSearchIndex index = new EventSearchIndex(eventRepository, true);
+
+    @Test
+    void servesSearchesOnlyOnceBuilt() {
+        when(eventRepository.findAllByState(State.PUBLISHED)).thenReturn(List.of(event(1, "Jazz night")));
+
+        assertThat(index.isEnabled()).isFalse();
+        index.build();
+
+        assertThat(index.isEnabled()).isTrue();
+        assertThat(index.search(null, null, null, NOW, null, null, true, 0, 10)).containsExactly(1L);
+    }
+
+    @Test
+    void disabledIndexIsNeverServed() {
+        EventSearchIndex disabled = new EventSearchIndex(eventRepository, false);
+
+        disabled.build();
+
+        assertThat(disabled.isEnabled()).isFalse();
+    }
+
+    @Test
+    void updateDuringBuildWinsOverSnapshot() {
+        Event snapshot = event(1, "Old annotation");
+        when(eventRepository.findAllByState(State.PUBLISHED)).thenAnswer(invocation -> {
+            // the event is edited and committed after the snapshot was read
+            index.updateAfterCommit(event(1, "New annotation"));
+            return List.of(snapshot);
+        });
+
+        index.build();
+
+        assertThat(search("new")).containsExactly(1L);
+        assertThat(search("old")).isEmpty();
+    }
+
+    @Test
+    void rangeEndingBeforeStartIsEmpty() {
+        build(event(1, "Jazz night"));
+
+        assertThat(index.search(null, null, null, NOW, NOW.minusYears(10), null, true, 0, 10)).isEmpty();
+        assertThat(index.search(null, null, null, NOW, NOW, null, true, 0, 10)).isEmpty();
+    }
+
+    @Test
+    void datesAreExclusiveBounds() {
+        Event first = event(1, "Jazz night");
+        first.setEventDate(NOW.plusDays(1));
+        Event second = event(2, "Jazz night");
+        second.setEventDate(NOW.plusDays(2));
+        build(first, second);
+
+        assertThat(index.search(null, null, null, NOW.plusDays(1), null, null, true, 0, 10)).containsExactly(2L);
+        assertThat(index.search(null, null, null, NOW, NOW.plusDays(2), null, true, 0, 10)).containsExactly(1L);
+    }
+
+    @Test
+    void pagesSkipAcrossDateBuckets() {
+        List<Event> events = new ArrayList<>();
+        for (int i = 1; i <= 9; i++) {
+            Event event = event(i, "Jazz night " + i);
+            event.setEventDate(NOW.plusDays(4 - (i % 3)));
+            events.add(event);
+        }
+        build(events.toArray(Event[]::new));
+
+        List<Long> byDate = List.of(2L, 5L, 8L, 1L, 4L, 7L, 3L, 6L, 9L);
+        List<Long> paged = new ArrayList<>();
+        for (int from = 0; from < byDate.size(); from += 2) {
+            paged.addAll(index.search(null, null, null, NOW, null, null, true, from, 2));
+        }
+
+        assertThat(paged).isEqualTo(byDate);
+        assertThat(index.search(null, null, null, NOW, null, null, true, 4, 4)).containsExactly(4L, 7L, 3L, 6L);
+        assertThat(index.search(null, null, null, NOW, null, null, false, 4, 4)).containsExactly(5L, 6L, 7L, 8L);
+        assertThat(index.search(null, null, null, NOW, null, null, true, 9, 4)).isEmpty();
+    }
+
+    @Test
+    void trigramCandidatesAreRecheckedForSubstring() {
+        Event event = event(1, "abc bca cab");
+        build(event);
+
+        // every trigram of "abcab" is in the annotation, the substring itself is not
+        assertThat(search("abcab")).isEmpty();
+        assertThat(search("bca c")).containsExactly(1L);
+        assertThat(search("BC")).containsExactly(1L);
+        assertThat(search("zz")).isEmpty();
+    }
+
+    @Test
+    void textMatchesAnnotationOrDescriptionIgnoringCase() {
+        Event inDescription = event(2, "Concert");
+        inDescription.setDescription("An evening of Improvised Jazz and more");
+        build(event(1, "Jazz night"), inDescription, event(3, "Theatre"));
+
+        assertThat(search("JAZZ")).containsExactly(1L, 2L);
+        assertThat(search("improvised jazz")).containsExactly(2L);
+    }
+
+    @Test
+    void facetsIntersect() {
+        Event paidInFirst = event(1, "Jazz");
+        Event freeInFirst = event(2, "Jazz");
+        freeInFirst.setPaid(false);
+        Event paidInSecond = event(3, "Jazz");
+        paidInSecond.getCategory().setId(2L);
+        Event withoutLimit = event(4, "Jazz");
+        withoutLimit.setParticipantLimit(null);
+        build(paidInFirst, freeInFirst, paidInSecond, withoutLimit);
+
+        assertThat(index.search(null, List.of(1L), true, NOW, null, null, false, 0, 10)).containsExactly(1L, 4L);
+        assertThat(index.search(null, List.of(1L), false, NOW, null, null, false, 0, 10)).containsExactly(2L);
+        assertThat(index.search(null, List.of(1L, 2L), true, NOW, null, true, false, 0, 10))
+                .containsExactly(1L, 3L);
+        assertThat(index.search(null, List.of(7L), null, NOW, null, null, false, 0, 10)).isEmpty();
+    }
+
+    @Test
+    void updatesReplaceAndRemoveEvents() {
+        build(event(1, "Jazz night"), event(2, "Rock night"));
+
+        Event edited = event(1, "Opera night");
+        edited.setEventDate(NOW.plusDays(10));
+        index.updateAfterCommit(edited);
+        Event unpublished = event(2, "Rock night");
+        unpublished.setState(State.CANCELED);
+        index.updateAfterCommit(unpublished);
+        index.updateAfterCommit(event(3, "Jazz again"));
+
+        assertThat(search("jazz")).containsExactly(3L);
+        assertThat(search("opera")).containsExactly(1L);
+        assertThat(search("rock")).isEmpty();
+        assertThat(index.search(null, null, null, NOW.plusDays(5), null, null, true, 0, 10)).containsExactly(1L);
+    }
+
+    private List<Long> search(String text) {
+        return index.search(text, null, null, NOW, null, null, false, 0, 100);
+    }
+
+    private void build(Event... events) {
+        when(eventRepository.findAllByState(State.PUBLISHED)).thenReturn(List.of(events));
+        index.build();
+    }
+
+    private static Event event(long id, String annotation) {
+        Category category = new Category("Category");
+        category.setId(1L);
+        return Event.builder()
+                .id(id)
+                .annotation(annotation)
+                .description(DESCRIPTION)
+                .category(category)
+                .eventDate(NOW.plusDays(1))
+                .paid(true)
+                .participantLimit(0)
+                .state(State.PUBLISHED)
+                .build();
+    }
+}
@@ -0,0 +1,79 @@
+package ru.practicum.ewm.requests;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import ru.practicum.ewm.categories.Category;
+import ru.practicum.ewm.compilations.CompilationsChangedEvent;
+import ru.practicum.ewm.events.model.Event;
+import ru.practicum.ewm.events.model.State;
+import ru.practicum.ewm.locations.Location;
+import ru.practicum.ewm.requests.model.ParticipationRequest;
+import ru.practicum.ewm.requests.model.RequestStatus;
+import ru.practicum.ewm.users.User;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("h2")
+@RecordApplicationEvents
+@Import(ConfirmedRequestsReconciler.class)
+class ConfirmedRequestsReconcilerTest {
+    @Autowired
+    private ConfirmedRequestsReconciler reconciler;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private ApplicationEvents applicationEvents;
+
+    @Test
+    void repairsOnlyDriftedEventsAndPublishesTheirChange() {
+        Event drifted = persistEvent("Drifted");
+        Event consistent = persistEvent("Consistent");
+        persistRequest(drifted, "first", RequestStatus.CONFIRMED);
+        persistRequest(drifted, "second", RequestStatus.CONFIRMED);
+        persistRequest(drifted, "third", RequestStatus.PENDING);
+        entityManager.flush();
+
+        reconciler.reconcile();
+        entityManager.clear();
+
+        assertThat(entityManager.find(Event.class, drifted.getId()).getConfirmedRequests()).isEqualTo(2);
+        assertThat(entityManager.find(Event.class, consistent.getId()).getConfirmedRequests()).isZero();
+        assertThat(applicationEvents.stream(CompilationsChangedEvent.class))
+                .containsExactly(CompilationsChangedEvent.event(drifted.getId()));
+    }
+
+    private Event persistEvent(String title) {
+        return entityManager.persist(Event.builder()
+                .annotation("Annotation of " + title)
+                .description("Description of event " + title)
+                .title(title)
+                .category(entityManager.persist(new Category("Category " + title)))
+                .initiator(entityManager.persist(new User(title, title.toLowerCase() + "@example.com")))
+                .location(entityManager.persist(new Location(0f, 0f)))
+                .createdOn(LocalDateTime.now())
+                .eventDate(LocalDateTime.now().plusDays(1))
+                .publishedOn(LocalDateTime.now())
+                .paid(false)
+                .participantLimit(0)
+                .requestModeration(true)
+                .state(State.PUBLISHED)
+                .build());
+    }
+
+    private void persistRequest(Event event, String requester, RequestStatus status) {
+        User user = entityManager.persist(new User(requester, requester + "@example.com"));
+        entityManager.persist(new ParticipationRequest(null, LocalDateTime.now().minusMinutes(1), event, user,
+                status));
+    }
+}
@@ -0,0 +1,218 @@
+package ru.practicum.ewm.requests;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import ru.practicum.ewm.categories.Category;
+import ru.practicum.ewm.categories.CategoryRepository;
+import ru.practicum.ewm.events.EventRepository;
+import ru.practicum.ewm.events.model.Event;
+import ru.practicum.ewm.events.model.State;
+import ru.practicum.ewm.locations.Location;
+import ru.practicum.ewm.locations.LocationRepository;
+import ru.practicum.ewm.requests.dto.EventRequestStatusUpdateRequest;
+import ru.practicum.ewm.requests.dto.ParticipationRequestDto;
+import ru.practicum.ewm.requests.model.RequestStatus;
+import ru.practicum.ewm.requests.service.RequestService;
+import ru.practicum.ewm.users.User;
+import ru.practicum.ewm.users.UserRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Hammers one event with concurrent sign-ups, confirmations and cancellations on PostgreSQL and checks that
+ * {@code events.confirmed_requests} never exceeds the participant limit and always equals the number of
+ * confirmed requests. Needs Docker; the test is skipped without it.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+class ParticipantLimitConcurrencyTest {
+    private static final int LIMIT = 10;
+    private static final int REQUESTERS = 60;
+    private static final int THREADS = 16;
+    private static final int CONFIRMATION_CHUNK = 4;
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16.1");
+
+    @Autowired
+    private RequestService requestService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private LocationRepository locationRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void concurrentSignUpsNeverExceedLimit() throws Exception {
+        Event event = createEvent(false);
+        List<User> requesters = createUsers(REQUESTERS);
+
+        List<Callable<Object>> signUps = new ArrayList<>();
+        for (User requester : requesters) {
+            signUps.add(() -> requestService.addRequest(requester.getId(), event.getId()));
+        }
+        int succeeded = runConcurrently(signUps);
+
+        assertThat(succeeded).isEqualTo(LIMIT);
+        assertCounterMatchesConfirmedRequests(event.getId(), LIMIT);
+    }
+
+    @Test
+    void concurrentConfirmationsNeverExceedLimit() throws Exception {
+        Event event = createEvent(true);
+        List<Long> requestIds = createPendingRequests(event, createUsers(REQUESTERS));
+
+        List<Callable<Object>> confirmations = new ArrayList<>();
+        for (List<Long> chunk : chunks(requestIds)) {
+            confirmations.add(() -> confirm(event, chunk));
+        }
+        runConcurrently(confirmations);
+
+        assertCounterMatchesConfirmedRequests(event.getId(), LIMIT);
+    }
+
+    @Test
+    void concurrentCancellationsKeepCounterInSync() throws Exception {
+        Event event = createEvent(true);
+        List<User> requesters = createUsers(REQUESTERS);
+        List<Long> requestIds = createPendingRequests(event, requesters);
+
+        List<Callable<Object>> tasks = new ArrayList<>();
+        for (List<Long> chunk : chunks(requestIds)) {
+            tasks.add(() -> confirm(event, chunk));
+        }
+        for (int i = 0; i < requestIds.size(); i += 2) {
+            Long requesterId = requesters.get(i).getId();
+            Long requestId = requestIds.get(i);
+            tasks.add(() -> requestService.cancelRequest(requesterId, requestId));
+        }
+        runConcurrently(tasks);
+
+        assertCounterMatchesConfirmedRequests(event.getId(), LIMIT);
+    }
+
+    private Object confirm(Event event, List<Long> requestIds) {
+        return requestService.updateRequestsStatus(event.getInitiator().getId(), event.getId(),
+                new EventRequestStatusUpdateRequest(requestIds, RequestStatus.CONFIRMED));
+    }
+
+    /**
+     * Starts all tasks at once and returns how many completed; refusals because the event is full are
+     * expected, any other failure fails the test.
+     */
+    private int runConcurrently(List<Callable<Object>> tasks) throws InterruptedException, ExecutionException {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Object>> futures = new ArrayList<>();
+            for (Callable<Object> task : tasks) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return task.call();
+                }));
+            }
+            start.countDown();
+
+            int succeeded = 0;
+            for (Future<Object> future : futures) {
+                try {
+                    future.get();
+                    succeeded++;
+                } catch (ExecutionException e) {
+                    if (!(e.getCause() instanceof DataIntegrityViolationException)) {
+                        throw e;
+                    }
+                }
+            }
+            return succeeded;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void assertCounterMatchesConfirmedRequests(Long eventId, int limit) {
+        Long counter = jdbcTemplate.queryForObject(
+                "SELECT confirmed_requests FROM events WHERE id = ?", Long.class, eventId);
+        Long confirmed = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM requests WHERE event_id = ? AND status = 'CONFIRMED'", Long.class, eventId);
+
+        assertThat(counter).isLessThanOrEqualTo(limit).isEqualTo(confirmed);
+    }
+
+    private Event createEvent(boolean requestModeration) {
+        User initiator = createUsers(1).getFirst();
+        Category category = categoryRepository.save(new Category("Category " + UUID.randomUUID()));
+        Location location = locationRepository.save(new Location(55.75f, 37.61f));
+        return eventRepository.save(Event.builder()
+                .annotation("Concurrency test event annotation " + UUID.randomUUID())
+                .description("Concurrency test event description")
+                .title("Concurrency test")
+                .category(category)
+                .initiator(initiator)
+                .location(location)
+                .createdOn(LocalDateTime.now())
+                .eventDate(LocalDateTime.now().plusDays(7))
+                .publishedOn(LocalDateTime.now())
+                .paid(false)
+                .participantLimit(LIMIT)
+                .requestModeration(requestModeration)
+                .state(State.PUBLISHED)
+                .build());
+    }
+
+    private List<User> createUsers(int count) {
+        List<User> users = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String name = "user-" + UUID.randomUUID();
+            users.add(userRepository.save(new User(name, name + "@example.com")));
+        }
+        return users;
+    }
+
+    private List<Long> createPendingRequests(Event event, List<User> requesters) {
+        List<Long> requestIds = new ArrayList<>(requesters.size());
+        for (User requester : requesters) {
+            ParticipationRequestDto request = requestService.addRequest(requester.getId(), event.getId());
+            assertThat(request.getStatus()).isEqualTo(RequestStatus.PENDING);
+            requestIds.add(request.getId());
+        }
+        return requestIds;
+    }
+
+    private static List<List<Long>> chunks(List<Long> ids) {
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int i = 0; i < ids.size(); i += CONFIRMATION_CHUNK) {
+            chunks.add(ids.subList(i, Math.min(i + CONFIRMATION_CHUNK, ids.size())));
+        }
+        return chunks;
+    }
+}
@@ -0,0 +1,203 @@
+package ru.practicum.ewm.stats;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import ru.practicum.EndpointHitDto;
+import ru.practicum.StatClient;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class HitBufferTest {
+    private static final long NO_TIMED_FLUSH = TimeUnit.HOURS.toMillis(1);
+
+    private final StubStatClient statClient = new StubStatClient();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final StatsCircuitBreaker circuitBreaker =
+            new StatsCircuitBreaker(meterRegistry, 1, Duration.ofHours(1), Clock.systemUTC());
+    private final EventViewsRefresher viewsRefresher = mock(EventViewsRefresher.class);
+    private HitBuffer hitBuffer;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        statClient.unblock();
+        hitBuffer.stop();
+    }
+
+    @Test
+    void offerNeverWaitsForSlowStatsServer() throws InterruptedException {
+        hitBuffer = hitBuffer(3, 2, NO_TIMED_FLUSH);
+        statClient.block();
+
+        hitBuffer.offer(hit(1));
+        hitBuffer.offer(hit(2));
+        assertThat(statClient.entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // the worker is stuck in saveHits with the first batch
+        List<Boolean> offered = assertTimeoutPreemptively(Duration.ofSeconds(1), () -> {
+            List<Boolean> results = new ArrayList<>();
+            for (int i = 3; i <= 7; i++) {
+                results.add(hitBuffer.offer(hit(i)));
+            }
+            return results;
+        });
+
+        assertThat(offered).containsExactly(true, true, true, false, false);
+        assertThat(count("stats.hits.dropped")).isEqualTo(2);
+        assertThat(count("stats.hits.sent")).isZero();
+
+        statClient.unblock();
+        hitBuffer.stop();
+
+        assertThat(count("stats.hits.sent")).isEqualTo(5);
+        assertThat(count("stats.hits.failed")).isZero();
+    }
+
+    @Test
+    void countsDropsWhenFull() {
+        hitBuffer = hitBuffer(2, 100, NO_TIMED_FLUSH);
+
+        assertThat(hitBuffer.offer(hit(1))).isTrue();
+        assertThat(hitBuffer.offer(hit(2))).isTrue();
+        assertThat(hitBuffer.offer(hit(3))).isFalse();
+        assertThat(hitBuffer.offer(hit(4))).isFalse();
+
+        assertThat(count("stats.hits.dropped")).isEqualTo(2);
+        assertThat(meterRegistry.get("stats.hits.queue.depth").gauge().value()).isEqualTo(2);
+        assertThat(statClient.batches).isEmpty();
+    }
+
+    @Test
+    void flushesWhenBatchIsFull() throws InterruptedException {
+        hitBuffer = hitBuffer(100, 3, NO_TIMED_FLUSH);
+
+        hitBuffer.offer(hit(1));
+        hitBuffer.offer(hit(2));
+        assertThat(statClient.batches.poll(200, TimeUnit.MILLISECONDS)).isNull();
+        hitBuffer.offer(hit(3));
+
+        assertThat(statClient.batches.poll(5, TimeUnit.SECONDS)).extracting(EndpointHitDto::getUri)
+                .containsExactly("/events/1", "/events/2", "/events/3");
+        awaitCount("stats.hits.sent", 3);
+        verify(viewsRefresher).markDirty("/events/3");
+    }
+
+    @Test
+    void flushesOnInterval() throws InterruptedException {
+        hitBuffer = hitBuffer(100, 100, 50);
+        hitBuffer.start();
+
+        hitBuffer.offer(hit(1));
+
+        assertThat(statClient.batches.poll(5, TimeUnit.SECONDS)).extracting(EndpointHitDto::getUri)
+                .containsExactly("/events/1");
+        awaitCount("stats.hits.sent", 1);
+    }
+
+    @Test
+    void countsHitsOfFailedFlush() {
+        hitBuffer = hitBuffer(100, 100, NO_TIMED_FLUSH);
+        statClient.status = HttpStatus.INTERNAL_SERVER_ERROR;
+
+        hitBuffer.offer(hit(1));
+        hitBuffer.offer(hit(2));
+        hitBuffer.flush();
+
+        assertThat(count("stats.hits.failed")).isEqualTo(2);
+        assertThat(count("stats.hits.sent")).isZero();
+        assertThat(circuitBreaker.getState()).isEqualTo(StatsCircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    void keepsHitsQueuedWhileCircuitIsOpen() {
+        hitBuffer = hitBuffer(3, 100, NO_TIMED_FLUSH);
+        assertThat(circuitBreaker.tryAcquire()).isTrue();
+        circuitBreaker.onFailure();
+
+        hitBuffer.offer(hit(1));
+        hitBuffer.offer(hit(2));
+        hitBuffer.flush();
+
+        assertThat(statClient.batches).isEmpty();
+        assertThat(meterRegistry.get("stats.hits.queue.depth").gauge().value()).isEqualTo(2);
+
+        hitBuffer.offer(hit(3));
+        hitBuffer.offer(hit(4));
+        hitBuffer.flush();
+
+        assertThat(statClient.batches).isEmpty();
+        assertThat(meterRegistry.get("stats.hits.queue.depth").gauge().value()).isEqualTo(3);
+        assertThat(count("stats.hits.dropped")).isEqualTo(1);
+        assertThat(count("stats.hits.sent")).isZero();
+        assertThat(count("stats.hits.failed")).isZero();
+    }
+
+    private HitBuffer hitBuffer(int capacity, int batchSize, long flushIntervalMs) {
+        return new HitBuffer(statClient, circuitBreaker, viewsRefresher, meterRegistry, capacity, batchSize,
+                flushIntervalMs);
+    }
+
+    private double count(String name) {
+        return meterRegistry.get(name).counter().count();
+    }
+
+    private void awaitCount(String name, double expected) throws InterruptedException {
+        // the counter is updated right after saveHits returns, on the worker thread
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (count(name) < expected && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(count(name)).isEqualTo(expected);
+    }
+
+    private static EndpointHitDto hit(int id) {
+        return new EndpointHitDto("ewm-main-service", "/events/" + id, "10.0.0.1", LocalDateTime.now());
+    }
+
+    private static class StubStatClient extends StatClient {
+        private final BlockingQueue<List<EndpointHitDto>> batches = new LinkedBlockingQueue<>();
+        private final CountDownLatch entered = new CountDownLatch(1);
+        private volatile CountDownLatch blocked = new CountDownLatch(0);
+        private volatile HttpStatus status = HttpStatus.CREATED;
+
+        StubStatClient() {
+            super(ObservationRegistry.NOOP, 1, Duration.ofSeconds(1), Duration.ofSeconds(1));
+        }
+
+        void block() {
+            blocked = new CountDownLatch(1);
+        }
+
+        void unblock() {
+            blocked.countDown();
+        }
+
+        @Override
+        public ResponseEntity<Object> saveHits(List<EndpointHitDto> hits) {
+            entered.countDown();
+            try {
+                blocked.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            batches.add(List.copyOf(hits));
+            return ResponseEntity.status(status).build();
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package ru.practicum.ewm.stats;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StatsCircuitBreakerTest {
+    private static final Duration OPEN_DURATION = Duration.ofSeconds(30);
+
+    private final MutableClock clock = new MutableClock();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final StatsCircuitBreaker circuitBreaker =
+            new StatsCircuitBreaker(meterRegistry, 3, OPEN_DURATION, clock);
+
+    @Test
+    void opensAtFailureThreshold() {
+        fail(2);
+        assertThat(circuitBreaker.getState()).isEqualTo(StatsCircuitBreaker.State.CLOSED);
+        assertThat(circuitBreaker.tryAcquire()).isTrue();
+
+        circuitBreaker.onFailure();
+
+        assertThat(circuitBreaker.getState()).isEqualTo(StatsCircuitBreaker.State.OPEN);
+        assertThat(circuitBreaker.tryAcquire()).isFalse();
+        assertThat(meterRegistry.get("stats.circuit.state").gauge().value()).isEqualTo(2);
+    }
+
+    @Test
+    void successResetsConsecutiveFailures() {
+        fail(2);
+        circuitBreaker.onSuccess();
+        fail(2);
+
+        assertThat(circuitBreaker.getState()).isEqualTo(StatsCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void staysOpenUntilOpenDurationPasses() {
+        fail(3);
+
+        clock.advance(OPEN_DURATION.minusMillis(1));
+        assertThat(circuitBreaker.tryAcquire()).isFalse();
+
+        clock.advance(Duration.ofMillis(1));
+        assertThat(circuitBreaker.tryAcquire()).isTrue();
+        assertThat(circuitBreaker.getState()).isEqualTo(StatsCircuitBreaker.State.HALF_OPEN);
+    }
+
+    @Test
+    void halfOpenLetsSingleProbeThrough() {
+        fail(3);
+        clock.advance(OPEN_DURATION);
+
+        assertThat(circuitBreaker.tryAcquire()).isTrue();
+        assertThat(circuitBreaker.tryAcquire()).isFalse();
+        assertThat(circuitBreaker.tryAcquire()).isFalse();
+
+        circuitBreaker.onSuccess();
+
+        assertThat(circuitBreaker.getState()).isEqualTo(StatsCircuitBreaker.State.CLOSED);
+        assertThat(circuitBreaker.tryAcquire()).isTrue();
+        assertThat(circuitBreaker.tryAcquire()).isTrue();
+    }
+
+    @Test
+    void releaseLetsNextCallerProbe() {
+        fail(3);
+        clock.advance(OPEN_DURATION);
+        assertThat(circuitBreaker.tryAcquire()).isTrue();
+
+        circuitBreaker.release();
+
+        assertThat(circuitBreaker.getState()).isEqualTo(StatsCircuitBreaker.State.HALF_OPEN);
+        assertThat(circuitBreaker.tryAcquire()).isTrue();
+        assertThat(circuitBreaker.tryAcquire()).isFalse();
+    }
+
+    @Test
+    void failedProbeReopensCircuit() {
+        fail(3);
+        clock.advance(OPEN_DURATION);
+        assertThat(circuitBreaker.tryAcquire()).isTrue();
+
+        circuitBreaker.onFailure();
+
+        assertThat(circuitBreaker.getState()).isEqualTo(StatsCircuitBreaker.State.OPEN);
+        assertThat(circuitBreaker.tryAcquire()).isFalse();
+        // the open duration counts from the failed probe, not from the first opening
+        clock.advance(OPEN_DURATION.minusMillis(1));
+        assertThat(circuitBreaker.tryAcquire()).isFalse();
+        clock.advance(Duration.ofMillis(1));
+        assertThat(circuitBreaker.tryAcquire()).isTrue();
+    }
+
+    private void fail(int times) {
+        for (int i = 0; i < times; i++) {
+            assertThat(circuitBreaker.tryAcquire()).isTrue();
+            circuitBreaker.onFailure();
+        }
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant instant = Instant.parse("2030-01-01T12:00:00Z");
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package ru.practicum;
+
+import io.micrometer.context.ContextExecutorService;
+import io.micrometer.context.ContextSnapshotFactory;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Runs {@link StatClient} calls on virtual threads, so callers can fan out stats requests without
+ * holding their own thread while the stats-server answers. Every future completes exceptionally with a
+ * {@link java.util.concurrent.TimeoutException} once {@code client.call-timeout} has passed. The caller's
+ * observation (and so its trace) is carried over to the virtual thread.
+ */
+@Service
+public class AsyncStatClient {
+    private final StatClient statClient;
+    private final Duration callTimeout;
+    private final ExecutorService executor = ContextExecutorService.wrap(
+            Executors.newVirtualThreadPerTaskExecutor(), ContextSnapshotFactory.builder().build()::captureAll);
+
+    public AsyncStatClient(StatClient statClient,
+                           @Value("${client.call-timeout:5s}") Duration callTimeout) {
+        this.statClient = statClient;
+        this.callTimeout = callTimeout;
+    }
+
+    public CompletableFuture<ResponseEntity<Object>> saveHit(EndpointHitDto hit) {
+        return submit(() -> statClient.saveHit(hit));
+    }
+
+    public CompletableFuture<ResponseEntity<Object>> saveHits(List<EndpointHitDto> hits) {
+        return submit(() -> statClient.saveHits(hits));
+    }
+
+    public CompletableFuture<ResponseEntity<Object>> getStats(LocalDateTime start, LocalDateTime end,
+                                                              List<String> uris, Boolean unique,
+                                                              Boolean approximate) {
+        return submit(() -> statClient.getStats(start, end, uris, unique, approximate));
+    }
+
+    public CompletableFuture<Map<String, Long>> getViews(LocalDateTime start, LocalDateTime end,
+                                                         List<String> uris, Boolean unique,
+                                                         Boolean approximate) {
+        return submit(() -> statClient.getViews(start, end, uris, unique, approximate));
+    }
+
+    @PreDestroy
+    void stop() {
+        executor.shutdownNow();
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> call) {
+        return CompletableFuture.supplyAsync(call, executor)
+                .orTimeout(callTimeout.toMillis(), TimeUnit.MILLISECONDS);
+    }
+}
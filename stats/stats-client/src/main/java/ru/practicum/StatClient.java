@@ -1,27 +1,72 @@
 package ru.practicum;
 
+import io.micrometer.observation.ObservationRegistry;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
+/**
+ * Requests are observed by the RestTemplate itself, which times every call as {@code stats.client.requests}
+ * tagged by method, path, status and outcome, and propagates the current trace to the stats-server.
+ */
 @Service
 public class StatClient extends BaseClient {
+    private static final ViewsExtractor VIEWS_EXTRACTOR = new ViewsExtractor();
 
     @Value("${client.url}")
     private String serverUrl;
     private final DateTimeFormatter formatter = DateTimeFormatter.ofPattern(EndpointHitDto.DATE_TIME_PATTERN);
 
+    public StatClient(ObservationRegistry observationRegistry,
+                      @Value("${client.pool.max-connections:20}") int maxConnections,
+                      @Value("${client.connect-timeout:2s}") Duration connectTimeout,
+                      @Value("${client.response-timeout:5s}") Duration responseTimeout) {
+        super(maxConnections, connectTimeout, responseTimeout);
+        rest.setObservationRegistry(observationRegistry);
+        rest.setObservationConvention(new StatsClientObservationConvention());
+    }
+
     public ResponseEntity<Object> saveHit(EndpointHitDto hit) {
         return post(serverUrl + "/hit", hit);
     }
 
+    public ResponseEntity<Object> saveHits(List<EndpointHitDto> hits) {
+        return post(serverUrl + "/hits/batch", hits);
+    }
+
     public ResponseEntity<Object> getStats(LocalDateTime start, LocalDateTime end,
                                            List<String> uris, Boolean unique) {
+        return getStats(start, end, uris, unique, null);
+    }
+
+    /**
+     * With {@code approximate=true} unique counts are HyperLogLog estimates (about 2.3% standard error).
+     */
+    public ResponseEntity<Object> getStats(LocalDateTime start, LocalDateTime end,
+                                           List<String> uris, Boolean unique, Boolean approximate) {
+        return get(statsUrl(start, end, uris, unique, approximate));
+    }
+
+    /**
+     * Same query as {@link #getStats}, streamed straight into hits keyed by uri.
+     * Failed requests are reported with a {@link org.springframework.web.client.RestClientException}.
+     */
+    public Map<String, Long> getViews(LocalDateTime start, LocalDateTime end,
+                                      List<String> uris, Boolean unique, Boolean approximate) {
+        return rest.execute(statsUrl(start, end, uris, unique, approximate), HttpMethod.GET, null,
+                VIEWS_EXTRACTOR);
+    }
+
+    private String statsUrl(LocalDateTime start, LocalDateTime end,
+                            List<String> uris, Boolean unique, Boolean approximate) {
         Objects.requireNonNull(start, "Start date cannot be null");
         Objects.requireNonNull(end, "End date cannot be null");
 
@@ -39,6 +84,10 @@ public class StatClient extends BaseClient {
             url.append("&unique=").append(unique);
         }
 
-        return get(url.toString());
+        if (approximate != null) {
+            url.append("&approximate=").append(approximate);
+        }
+
+        return url.toString();
     }
-}
\ No newline at end of file
+}
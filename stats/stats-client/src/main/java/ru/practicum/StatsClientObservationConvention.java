@@ -0,0 +1,27 @@
+package ru.practicum;
+
+import io.micrometer.common.KeyValue;
+import org.springframework.http.client.observation.ClientHttpObservationDocumentation.LowCardinalityKeyNames;
+import org.springframework.http.client.observation.ClientRequestObservationContext;
+import org.springframework.http.client.observation.DefaultClientRequestObservationConvention;
+
+/**
+ * Names stats-server calls {@code stats.client.requests} and tags them with the request path only. The client
+ * builds full URLs with the query string inlined, which the default convention would turn into one
+ * {@code uri} tag value per distinct query.
+ */
+class StatsClientObservationConvention extends DefaultClientRequestObservationConvention {
+    static final String NAME = "stats.client.requests";
+
+    StatsClientObservationConvention() {
+        super(NAME);
+    }
+
+    @Override
+    protected KeyValue uri(ClientRequestObservationContext context) {
+        if (context.getCarrier() == null) {
+            return super.uri(context);
+        }
+        return KeyValue.of(LowCardinalityKeyNames.URI, context.getCarrier().getURI().getPath());
+    }
+}
@@ -0,0 +1,55 @@
+package ru.practicum;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.web.client.ResponseExtractor;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Reads a {@code /stats} response body in a single streaming pass into hits keyed by uri,
+ * without materializing the intermediate {@link ViewStats} list.
+ */
+public class ViewsExtractor implements ResponseExtractor<Map<String, Long>> {
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    @Override
+    public Map<String, Long> extractData(ClientHttpResponse response) throws IOException {
+        try (InputStream body = response.getBody()) {
+            return read(body);
+        }
+    }
+
+    public static Map<String, Long> read(InputStream body) throws IOException {
+        Map<String, Long> views = new HashMap<>();
+        try (JsonParser parser = JSON_FACTORY.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IOException("Expected a JSON array of view stats");
+            }
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                String uri = null;
+                long hits = 0;
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String field = parser.currentName();
+                    JsonToken value = parser.nextToken();
+                    if ("uri".equals(field)) {
+                        uri = parser.getValueAsString();
+                    } else if ("hits".equals(field)) {
+                        hits = parser.getValueAsLong();
+                    } else if (value.isStructStart()) {
+                        parser.skipChildren();
+                    }
+                }
+                if (uri != null) {
+                    views.merge(uri, hits, Long::sum);
+                }
+            }
+        }
+        return views;
+    }
+}
@@ -0,0 +1,54 @@
+package ru.practicum;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.observation.DefaultMeterObservationHandler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.client.ExpectedCount;
+import org.springframework.test.web.client.MockRestServiceServer;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+class StatClientMetricsTest {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private StatClient statClient;
+    private MockRestServiceServer server;
+
+    @BeforeEach
+    void setUp() {
+        ObservationRegistry observationRegistry = ObservationRegistry.create();
+        observationRegistry.observationConfig().observationHandler(new DefaultMeterObservationHandler(meterRegistry));
+        statClient = new StatClient(observationRegistry, 1, Duration.ofSeconds(1), Duration.ofSeconds(1));
+        ReflectionTestUtils.setField(statClient, "serverUrl", "http://stats-server:9090");
+        server = MockRestServiceServer.bindTo(statClient.rest).build();
+    }
+
+    @Test
+    void differentQueriesShareOneUriTag() {
+        server.expect(ExpectedCount.times(3), method(HttpMethod.GET))
+                .andRespond(withSuccess("[]", MediaType.APPLICATION_JSON));
+        LocalDateTime start = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+        statClient.getViews(start, start.plusDays(1), List.of("/events/1"), false, null);
+        statClient.getViews(start, start.plusDays(2), List.of("/events/2"), true, null);
+        statClient.getStats(start, start.plusDays(3), List.of("/events/3", "/events/4"), false);
+
+        List<Timer> timers = List.copyOf(meterRegistry.find(StatsClientObservationConvention.NAME).timers());
+        assertThat(timers).singleElement().satisfies(timer -> {
+            assertThat(timer.getId().getTag("uri")).isEqualTo("/stats");
+            assertThat(timer.count()).isEqualTo(3);
+        });
+        server.verify();
+    }
+}
@@ -6,7 +6,9 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.bind.MissingServletRequestParameterException;
+import org.springframework.web.method.annotation.HandlerMethodValidationException;
 
+import jakarta.validation.ConstraintViolationException;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.io.Writer;
@@ -16,10 +18,11 @@ import java.time.LocalDateTime;
 @Slf4j
 @RestControllerAdvice
 public class ErrorHandler {
-    @ExceptionHandler({MissingServletRequestParameterException.class, DateTimeException.class})
+    @ExceptionHandler({MissingServletRequestParameterException.class, DateTimeException.class,
+            HandlerMethodValidationException.class, ConstraintViolationException.class})
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     public ApiErrors badRequest(RuntimeException e) {
-        log.error(stackTraceToString(e));
+        log.warn("{}: {}", e.getClass().getSimpleName(), e.getMessage());
         return ApiErrors.builder()
                 .message(e.getMessage())
                 .reason("Incorrectly made request.")
@@ -0,0 +1,134 @@
+package ru.practicum.server;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.TemporalAdjusters;
+import java.util.List;
+
+/**
+ * Maintains the range partitions of the {@code hits} table: partitions for the current and the next
+ * {@code stats.partitions.premake} intervals are created ahead of time. Retention is opt-in: with
+ * {@code stats.partitions.retention} above zero, partitions that ended more than that many intervals ago are
+ * detached and dropped together with the minute rollups of that period. Day rollups and sketches are small
+ * and are kept, so total counts and approximate unique counts ({@code approximate=true}) over whole days stay
+ * available, but exact unique counts are computed from raw hits and silently lose the dropped periods.
+ */
+@Slf4j
+@Component
+public class HitPartitionManager {
+    private static final String PARTITION_PREFIX = "hits_p";
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    private static final String CREATE_PARTITION = "CREATE TABLE IF NOT EXISTS %s PARTITION OF hits " +
+            "FOR VALUES FROM ('%s') TO ('%s')";
+
+    private static final String FIND_PARTITIONS = "SELECT c.relname FROM pg_inherits i " +
+            "JOIN pg_class c ON c.oid = i.inhrelid " +
+            "JOIN pg_class p ON p.oid = i.inhparent " +
+            "WHERE p.relname = 'hits' AND c.relname LIKE 'hits\\_p%'";
+
+    private static final String PURGE_MINUTE_ROLLUPS = "DELETE FROM hit_rollup_minute WHERE bucket < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private final Interval interval;
+    private final int premake;
+    private final int retention;
+
+    public HitPartitionManager(JdbcTemplate jdbcTemplate,
+                               @Value("${stats.partitions.enabled:true}") boolean enabled,
+                               @Value("${stats.partitions.interval:MONTH}") Interval interval,
+                               @Value("${stats.partitions.premake:2}") int premake,
+                               @Value("${stats.partitions.retention:0}") int retention) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+        this.interval = interval;
+        this.premake = premake;
+        this.retention = retention;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        maintain();
+    }
+
+    @Scheduled(cron = "${stats.partitions.cron:0 0 3 * * *}")
+    public void maintain() {
+        if (!enabled) {
+            return;
+        }
+        LocalDate current = interval.floor(LocalDate.now());
+        createPartitions(current);
+        if (retention > 0) {
+            dropPartitions(interval.plus(current, -retention));
+        }
+    }
+
+    private void createPartitions(LocalDate current) {
+        for (int i = 0; i <= premake; i++) {
+            LocalDate from = interval.plus(current, i);
+            LocalDate to = interval.plus(from, 1);
+            String name = PARTITION_PREFIX + from.format(PARTITION_SUFFIX);
+            try {
+                jdbcTemplate.execute(String.format(CREATE_PARTITION, name, from, to));
+                log.debug("Partition {} covers [{}, {})", name, from, to);
+            } catch (DataAccessException e) {
+                // Rows of that range already sit in the default partition or the range overlaps
+                // a partition of a different interval; such rows stay where they are.
+                log.warn("Could not create partition {} for [{}, {})", name, from, to, e);
+            }
+        }
+    }
+
+    private void dropPartitions(LocalDate cutoff) {
+        List<String> partitions = jdbcTemplate.queryForList(FIND_PARTITIONS, String.class);
+        for (String name : partitions) {
+            LocalDate from;
+            try {
+                from = LocalDate.parse(name.substring(PARTITION_PREFIX.length()), PARTITION_SUFFIX);
+            } catch (DateTimeParseException e) {
+                continue;
+            }
+            if (interval.plus(from, 1).isAfter(cutoff)) {
+                continue;
+            }
+            jdbcTemplate.execute("ALTER TABLE hits DETACH PARTITION " + name);
+            jdbcTemplate.execute("DROP TABLE " + name);
+            log.info("Dropped partition {} beyond the retention window", name);
+        }
+        int purged = jdbcTemplate.update(PURGE_MINUTE_ROLLUPS, Timestamp.valueOf(cutoff.atStartOfDay()));
+        log.debug("Purged {} minute rollups before {}", purged, cutoff);
+    }
+
+    public enum Interval {
+        DAY, WEEK, MONTH;
+
+        LocalDate floor(LocalDate date) {
+            return switch (this) {
+                case DAY -> date;
+                case WEEK -> date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+                case MONTH -> date.withDayOfMonth(1);
+            };
+        }
+
+        LocalDate plus(LocalDate date, int amount) {
+            return switch (this) {
+                case DAY -> date.plusDays(amount);
+                case WEEK -> date.plusWeeks(amount);
+                case MONTH -> date.plusMonths(amount);
+            };
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package ru.practicum.server;
+
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import ru.practicum.EndpointHitDto;
+import ru.practicum.ViewStats;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Per app/uri hit counters bucketed by minute and by day. The buckets are kept in step with the raw
+ * {@code hits} table, so a range query only has to read raw rows for the partial minutes at its edges.
+ */
+@Repository
+@RequiredArgsConstructor
+@Timed(value = "stats.repository", histogram = true)
+public class HitRollupRepository {
+    private static final String UPSERT = "INSERT INTO %1$s (app, uri, bucket, hits) VALUES (:app, :uri, :bucket, :hits) " +
+            "ON CONFLICT (uri, bucket, app) DO UPDATE SET hits = %1$s.hits + EXCLUDED.hits";
+
+    private static final String COUNT_HITS = "SELECT app, uri, SUM(hits) AS hits FROM (" +
+            "SELECT app, uri, hits FROM hit_rollup_day " +
+            "WHERE bucket >= :dayFrom AND bucket < :dayTo %1$s " +
+            "UNION ALL " +
+            "SELECT app, uri, hits FROM hit_rollup_minute " +
+            "WHERE ((bucket >= :minuteFrom AND bucket < :dayFrom) OR (bucket >= :dayTo AND bucket < :minuteTo)) %1$s " +
+            "UNION ALL " +
+            "SELECT app, uri, COUNT(*) AS hits FROM hits " +
+            "WHERE ((timestamp >= :start AND timestamp < :minuteFrom) OR (timestamp >= :minuteTo AND timestamp <= :end)) " +
+            "%1$s GROUP BY app, uri" +
+            ") AS buckets " +
+            "GROUP BY app, uri " +
+            "ORDER BY SUM(hits) DESC";
+
+    private static final String URI_FILTER = "AND uri IN (:uris)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public void addHits(List<EndpointHitDto> hits) {
+        upsert("hit_rollup_minute", aggregate(hits, ChronoUnit.MINUTES));
+        upsert("hit_rollup_day", aggregate(hits, ChronoUnit.DAYS));
+    }
+
+    /**
+     * Counts all hits with {@code start <= timestamp <= end}, grouped by app and uri.
+     * Whole days come from the day buckets, whole minutes around them from the minute buckets
+     * and the remaining seconds at both edges from the raw table.
+     */
+    public List<ViewStats> countHits(LocalDateTime start, LocalDateTime end, List<String> uris) {
+        LocalDateTime minuteFrom = ceil(start, ChronoUnit.MINUTES);
+        LocalDateTime minuteTo = end.truncatedTo(ChronoUnit.MINUTES);
+        if (!minuteFrom.isBefore(minuteTo)) {
+            minuteFrom = start;
+            minuteTo = start;
+        }
+
+        LocalDateTime dayFrom = ceil(minuteFrom, ChronoUnit.DAYS);
+        LocalDateTime dayTo = minuteTo.truncatedTo(ChronoUnit.DAYS);
+        if (!dayFrom.isBefore(dayTo)) {
+            dayFrom = minuteTo;
+            dayTo = minuteTo;
+        }
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("start", Timestamp.valueOf(start))
+                .addValue("end", Timestamp.valueOf(end))
+                .addValue("minuteFrom", Timestamp.valueOf(minuteFrom))
+                .addValue("minuteTo", Timestamp.valueOf(minuteTo))
+                .addValue("dayFrom", Timestamp.valueOf(dayFrom))
+                .addValue("dayTo", Timestamp.valueOf(dayTo));
+
+        boolean hasUris = uris != null && !uris.isEmpty();
+        if (hasUris) {
+            params.addValue("uris", uris);
+        }
+
+        return jdbcTemplate.query(String.format(COUNT_HITS, hasUris ? URI_FILTER : ""), params,
+                (rs, rowNum) -> new ViewStats(rs.getString("app"), rs.getString("uri"), rs.getLong("hits")));
+    }
+
+    private void upsert(String table, Map<RollupKey, Long> buckets) {
+        MapSqlParameterSource[] batch = buckets.entrySet().stream()
+                .map(entry -> new MapSqlParameterSource()
+                        .addValue("app", entry.getKey().app())
+                        .addValue("uri", entry.getKey().uri())
+                        .addValue("bucket", Timestamp.valueOf(entry.getKey().bucket()))
+                        .addValue("hits", entry.getValue()))
+                .toArray(MapSqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(String.format(UPSERT, table), batch);
+    }
+
+    /**
+     * Sums hits per bucket. Keys are sorted so that concurrent batches lock rollup rows in the same order.
+     */
+    private static Map<RollupKey, Long> aggregate(List<EndpointHitDto> hits, ChronoUnit unit) {
+        Map<RollupKey, Long> buckets = new TreeMap<>(RollupKey.ORDER);
+        for (EndpointHitDto hit : hits) {
+            RollupKey key = new RollupKey(hit.getApp(), hit.getUri(), hit.getTimestamp().truncatedTo(unit));
+            buckets.merge(key, 1L, Long::sum);
+        }
+        return buckets;
+    }
+
+    private static LocalDateTime ceil(LocalDateTime time, ChronoUnit unit) {
+        LocalDateTime floor = time.truncatedTo(unit);
+        return floor.equals(time) ? floor : floor.plus(1, unit);
+    }
+
+    private record RollupKey(String app, String uri, LocalDateTime bucket) {
+        private static final Comparator<RollupKey> ORDER = Comparator.comparing(RollupKey::uri)
+                .thenComparing(RollupKey::bucket)
+                .thenComparing(RollupKey::app);
+    }
+}
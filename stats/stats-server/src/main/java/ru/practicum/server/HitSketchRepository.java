@@ -0,0 +1,117 @@
+package ru.practicum.server;
+
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import ru.practicum.EndpointHitDto;
+import ru.practicum.ViewStats;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Per-day HyperLogLog sketches of visitor IPs, stored as one row per non-empty register so that
+ * sketches are merged by the database with {@code MAX(register_rank)}.
+ */
+@Repository
+@RequiredArgsConstructor
+@Timed(value = "stats.repository", histogram = true)
+public class HitSketchRepository {
+    private static final String UPSERT = "INSERT INTO hit_sketch_day (app, uri, bucket, register_idx, register_rank) " +
+            "VALUES (:app, :uri, :bucket, :index, :rank) " +
+            "ON CONFLICT (uri, bucket, app, register_idx) DO UPDATE SET register_rank = EXCLUDED.register_rank " +
+            "WHERE hit_sketch_day.register_rank < EXCLUDED.register_rank";
+
+    private static final String MERGE_DAYS = "SELECT app, uri, register_idx, MAX(register_rank) AS register_rank " +
+            "FROM hit_sketch_day " +
+            "WHERE bucket >= :dayFrom AND bucket < :dayTo %1$s " +
+            "GROUP BY app, uri, register_idx";
+
+    private static final String EDGE_IPS = "SELECT DISTINCT app, uri, ip FROM hits " +
+            "WHERE ((timestamp >= :start AND timestamp < :dayFrom) OR (timestamp >= :dayTo AND timestamp <= :end)) %1$s";
+
+    private static final String URI_FILTER = "AND uri IN (:uris)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public void addHits(List<EndpointHitDto> hits) {
+        Map<SketchKey, Integer> registers = new TreeMap<>(SketchKey.ORDER);
+        for (EndpointHitDto hit : hits) {
+            long hash = HyperLogLog.hash(hit.getIp());
+            SketchKey key = new SketchKey(hit.getApp(), hit.getUri(), hit.getTimestamp().truncatedTo(ChronoUnit.DAYS),
+                    HyperLogLog.registerIndex(hash));
+            registers.merge(key, HyperLogLog.registerRank(hash), Math::max);
+        }
+
+        MapSqlParameterSource[] batch = registers.entrySet().stream()
+                .map(entry -> new MapSqlParameterSource()
+                        .addValue("app", entry.getKey().app())
+                        .addValue("uri", entry.getKey().uri())
+                        .addValue("bucket", Timestamp.valueOf(entry.getKey().bucket()))
+                        .addValue("index", entry.getKey().index())
+                        .addValue("rank", entry.getValue()))
+                .toArray(MapSqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(UPSERT, batch);
+    }
+
+    /**
+     * Estimates distinct IPs with {@code start <= timestamp <= end} per app and uri. Whole days are merged
+     * from the stored sketches, the partial days at both edges are sketched from the raw table on the fly.
+     */
+    public List<ViewStats> countUniqueIps(LocalDateTime start, LocalDateTime end, List<String> uris) {
+        LocalDateTime dayFrom = start.truncatedTo(ChronoUnit.DAYS);
+        if (!dayFrom.equals(start)) {
+            dayFrom = dayFrom.plusDays(1);
+        }
+        LocalDateTime dayTo = end.truncatedTo(ChronoUnit.DAYS);
+        if (!dayFrom.isBefore(dayTo)) {
+            dayFrom = start;
+            dayTo = start;
+        }
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("start", Timestamp.valueOf(start))
+                .addValue("end", Timestamp.valueOf(end))
+                .addValue("dayFrom", Timestamp.valueOf(dayFrom))
+                .addValue("dayTo", Timestamp.valueOf(dayTo));
+
+        boolean hasUris = uris != null && !uris.isEmpty();
+        if (hasUris) {
+            params.addValue("uris", uris);
+        }
+        String uriFilter = hasUris ? URI_FILTER : "";
+
+        Map<ViewKey, HyperLogLog> sketches = new HashMap<>();
+        jdbcTemplate.query(String.format(MERGE_DAYS, uriFilter), params, rs -> {
+            sketches.computeIfAbsent(new ViewKey(rs.getString("app"), rs.getString("uri")), key -> new HyperLogLog())
+                    .merge(rs.getInt("register_idx"), rs.getInt("register_rank"));
+        });
+        jdbcTemplate.query(String.format(EDGE_IPS, uriFilter), params, rs -> {
+            sketches.computeIfAbsent(new ViewKey(rs.getString("app"), rs.getString("uri")), key -> new HyperLogLog())
+                    .add(rs.getString("ip"));
+        });
+
+        return sketches.entrySet().stream()
+                .map(entry -> new ViewStats(entry.getKey().app(), entry.getKey().uri(), entry.getValue().estimate()))
+                .sorted(Comparator.comparing(ViewStats::getHits).reversed())
+                .toList();
+    }
+
+    private record ViewKey(String app, String uri) {
+    }
+
+    private record SketchKey(String app, String uri, LocalDateTime bucket, int index) {
+        private static final Comparator<SketchKey> ORDER = Comparator.comparing(SketchKey::uri)
+                .thenComparing(SketchKey::bucket)
+                .thenComparing(SketchKey::app)
+                .thenComparingInt(SketchKey::index);
+    }
+}
@@ -0,0 +1,71 @@
+package ru.practicum.server;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * HyperLogLog distinct counter with 2^11 registers.
+ *
+ * <p>The relative standard error of {@link #estimate()} is {@code 1.04 / sqrt(2048)}, about 2.3%:
+ * roughly two thirds of estimates fall within 2.3% of the true count and 95% within 4.6%.
+ * Small cardinalities are corrected with linear counting, so counts of a few visitors come out exact.
+ *
+ * <p>Sketches are merged by taking the maximum of every register, which is how the per-day sketches
+ * stored in {@code hit_sketch_day} are combined at query time.
+ */
+public class HyperLogLog {
+    public static final int PRECISION = 11;
+    public static final int REGISTERS = 1 << PRECISION;
+
+    private static final double ALPHA = 0.7213 / (1 + 1.079 / REGISTERS);
+
+    private final byte[] registers = new byte[REGISTERS];
+
+    public static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    public static int registerIndex(long hash) {
+        return (int) (hash >>> (Long.SIZE - PRECISION));
+    }
+
+    public static int registerRank(long hash) {
+        return Long.numberOfLeadingZeros((hash << PRECISION) | (1L << (PRECISION - 1))) + 1;
+    }
+
+    public void add(String value) {
+        long hash = hash(value);
+        merge(registerIndex(hash), registerRank(hash));
+    }
+
+    public void merge(int index, int rank) {
+        if (rank > registers[index]) {
+            registers[index] = (byte) rank;
+        }
+    }
+
+    public long estimate() {
+        double sum = 0;
+        int zeros = 0;
+        for (byte rank : registers) {
+            sum += Math.scalb(1.0, -rank);
+            if (rank == 0) {
+                zeros++;
+            }
+        }
+        double estimate = ALPHA * REGISTERS * REGISTERS / sum;
+        if (estimate <= 2.5 * REGISTERS && zeros > 0) {
+            estimate = REGISTERS * Math.log((double) REGISTERS / zeros);
+        }
+        return Math.round(estimate);
+    }
+}
@@ -22,25 +22,33 @@ public class StatsController {
     @PostMapping("/hit")
     @ResponseStatus(HttpStatus.CREATED)
     public EndpointHitDto saveHit(@RequestBody @Valid EndpointHitDto hit) {
-        log.info("Received request to save hit: {}", hit);
+        log.debug("Received request to save hit: {}", hit);
         EndpointHitDto savedHit = statService.saveHit(hit);
-        log.info("Hit successfully saved: {}", savedHit);
+        log.debug("Hit successfully saved: {}", savedHit);
         return savedHit;
     }
 
+    @PostMapping("/hits/batch")
+    @ResponseStatus(HttpStatus.CREATED)
+    public void saveHits(@RequestBody List<@Valid EndpointHitDto> hits) {
+        log.debug("Received request to save batch of {} hits", hits.size());
+        statService.saveHits(hits);
+    }
+
     @GetMapping("/stats")
     public List<ViewStats> getStats(
             @RequestParam @DateTimeFormat(pattern = EndpointHitDto.DATE_TIME_PATTERN) LocalDateTime start,
             @RequestParam @DateTimeFormat(pattern = EndpointHitDto.DATE_TIME_PATTERN) LocalDateTime end,
             @RequestParam(required = false) List<String> uris,
-            @RequestParam(defaultValue = "false") Boolean unique) {
+            @RequestParam(defaultValue = "false") Boolean unique,
+            @RequestParam(defaultValue = "false") Boolean approximate) {
 
-        log.info("Received statistics request with parameters: start={}, end={}, uris={}, unique={}",
-                start, end, uris, unique);
+        log.debug("Received statistics request with parameters: start={}, end={}, uris={}, unique={}, approximate={}",
+                start, end, uris, unique, approximate);
 
-        List<ViewStats> stats = statService.getStats(start, end, uris, unique);
+        List<ViewStats> stats = statService.getStats(start, end, uris, unique, approximate);
 
-        log.info("Statistics returned: {} records", stats.size());
+        log.debug("Statistics returned: {} records", stats.size());
         return stats;
     }
 }
\ No newline at end of file
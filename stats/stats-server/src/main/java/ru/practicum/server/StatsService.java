@@ -9,5 +9,8 @@ import java.util.List;
 public interface StatsService {
     EndpointHitDto saveHit(EndpointHitDto hit);
 
-    List<ViewStats> getStats(LocalDateTime start, LocalDateTime end, List<String> uris, Boolean unique);
+    void saveHits(List<EndpointHitDto> hits);
+
+    List<ViewStats> getStats(LocalDateTime start, LocalDateTime end, List<String> uris, Boolean unique,
+                             Boolean approximate);
 }
\ No newline at end of file
@@ -1,7 +1,9 @@
 package ru.practicum.server;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.EndpointHit;
@@ -16,22 +18,46 @@ import java.util.List;
 @Service
 @Transactional
 @RequiredArgsConstructor
+@Timed(value = "stats.service", histogram = true)
 public class StatsServiceImpl implements StatsService {
     private final StatsRepository statRepository;
+    private final HitBatchRepository hitBatchRepository;
+    private final HitRollupRepository hitRollupRepository;
+    private final HitSketchRepository hitSketchRepository;
+
+    @Value("${stats.rollup.enabled:true}")
+    private boolean rollupEnabled;
 
     @Override
     public EndpointHitDto saveHit(EndpointHitDto hit) {
-        log.info("Saving hit: {}", hit);
+        log.debug("Saving hit: {}", hit);
         EndpointHit endpointHit = statRepository.save(EndpointHitMapper.toEndpointHit(hit));
         EndpointHitDto savedHit = EndpointHitMapper.toEndpointHitDto(endpointHit);
-        log.info("Hit successfully saved");
+        if (rollupEnabled) {
+            hitRollupRepository.addHits(List.of(savedHit));
+            hitSketchRepository.addHits(List.of(savedHit));
+        }
+        log.debug("Hit successfully saved");
         return savedHit;
     }
 
+    @Override
+    public void saveHits(List<EndpointHitDto> hits) {
+        log.debug("Saving batch of {} hits", hits.size());
+        hitBatchRepository.saveAll(hits);
+        if (rollupEnabled) {
+            hitRollupRepository.addHits(hits);
+            hitSketchRepository.addHits(hits);
+        }
+        log.debug("Batch of {} hits successfully saved", hits.size());
+    }
+
     @Override
     @Transactional(readOnly = true)
-    public List<ViewStats> getStats(LocalDateTime start, LocalDateTime end, List<String> uris, Boolean unique) {
-        log.info("Getting statistics with parameters: start={}, end={}, uris={}, unique={}", start, end, uris, unique);
+    public List<ViewStats> getStats(LocalDateTime start, LocalDateTime end, List<String> uris, Boolean unique,
+                                    Boolean approximate) {
+        log.debug("Getting statistics with parameters: start={}, end={}, uris={}, unique={}, approximate={}",
+                start, end, uris, unique, approximate);
         if (start.isAfter(end)) {
             log.error("Date validation error: start {} is after end {}", start, end);
             throw new DateTimeException("End date must be after start date.");
@@ -40,17 +66,21 @@ public class StatsServiceImpl implements StatsService {
         boolean hasUris = uris != null && !uris.isEmpty();
         List<ViewStats> result;
 
-        if (unique) {
+        if (unique && approximate && rollupEnabled) {
+            result = hitSketchRepository.countUniqueIps(start, end, uris);
+        } else if (unique) {
             result = hasUris
                     ? statRepository.findHitsWithUniqueIpWithUris(uris, start, end)
                     : statRepository.findHitsWithUniqueIpWithoutUris(start, end);
+        } else if (rollupEnabled) {
+            result = hitRollupRepository.countHits(start, end, uris);
         } else {
             result = hasUris
                     ? statRepository.findAllHitsWithUrls(uris, start, end)
                     : statRepository.findAllHitsWithoutUrls(start, end);
         }
 
-        log.info("Returned {} statistics records", result.size());
+        log.debug("Returned {} statistics records", result.size());
         return result;
     }
 }
\ No newline at end of file
@@ -1,9 +1,50 @@
 DROP TABLE IF EXISTS hits CASCADE;
+DROP TABLE IF EXISTS hit_rollup_minute CASCADE;
+DROP TABLE IF EXISTS hit_rollup_day CASCADE;
+DROP TABLE IF EXISTS hit_sketch_day CASCADE;
 
+-- Range partitioned by timestamp; HitPartitionManager creates the hits_pYYYYMMDD partitions ahead of time
+-- and, when retention is enabled, drops them past the retention window. The default partition catches rows
+-- outside managed ranges.
 CREATE TABLE IF NOT EXISTS hits (
-    id         BIGINT GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
+    id         BIGSERIAL,
     app        VARCHAR(255),
     uri        VARCHAR(255),
     ip         VARCHAR(15),
-    timestamp  TIMESTAMP
-);
\ No newline at end of file
+    timestamp  TIMESTAMP NOT NULL,
+    PRIMARY KEY (id, timestamp)
+) PARTITION BY RANGE (timestamp);
+
+CREATE TABLE IF NOT EXISTS hits_default PARTITION OF hits DEFAULT;
+
+CREATE INDEX IF NOT EXISTS hits_uri_timestamp_idx ON hits (uri, timestamp) INCLUDE (app, ip);
+CREATE INDEX IF NOT EXISTS hits_timestamp_idx ON hits (timestamp) INCLUDE (app, uri, ip);
+
+CREATE TABLE IF NOT EXISTS hit_rollup_minute (
+    app     VARCHAR(255) NOT NULL,
+    uri     VARCHAR(255) NOT NULL,
+    bucket  TIMESTAMP    NOT NULL,
+    hits    BIGINT       NOT NULL,
+    PRIMARY KEY (uri, bucket, app)
+);
+
+CREATE INDEX IF NOT EXISTS hit_rollup_minute_bucket_idx ON hit_rollup_minute (bucket);
+
+CREATE TABLE IF NOT EXISTS hit_rollup_day (
+    app     VARCHAR(255) NOT NULL,
+    uri     VARCHAR(255) NOT NULL,
+    bucket  TIMESTAMP    NOT NULL,
+    hits    BIGINT       NOT NULL,
+    PRIMARY KEY (uri, bucket, app)
+);
+
+CREATE INDEX IF NOT EXISTS hit_rollup_day_bucket_idx ON hit_rollup_day (bucket);
+
+CREATE TABLE IF NOT EXISTS hit_sketch_day (
+    app            VARCHAR(255) NOT NULL,
+    uri            VARCHAR(255) NOT NULL,
+    bucket         TIMESTAMP    NOT NULL,
+    register_idx   SMALLINT     NOT NULL,
+    register_rank  SMALLINT     NOT NULL,
+    PRIMARY KEY (uri, bucket, app, register_idx)
+);
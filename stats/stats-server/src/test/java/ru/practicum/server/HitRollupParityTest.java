@@ -0,0 +1,113 @@
+package ru.practicum.server;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import ru.practicum.EndpointHitDto;
+import ru.practicum.ViewStats;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The rollup-backed {@link HitRollupRepository#countHits} must give the same counts as the raw-table JPQL
+ * query. Hits sit on and around minute and day boundaries, and the ranges cover the edge-splitting cases:
+ * shorter than a minute, shorter than a day, bounds exactly on a minute or a day, and a hit exactly at the
+ * inclusive end. Needs Docker; the test is skipped without it.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class HitRollupParityTest {
+    private static final LocalDateTime DAY = LocalDateTime.of(2024, 3, 10, 0, 0);
+    private static final List<String> URIS = List.of("/events", "/events/1", "/events/2");
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16.1");
+
+    @Autowired
+    private StatsService statsService;
+
+    @Autowired
+    private HitRollupRepository hitRollupRepository;
+
+    @Autowired
+    private StatsRepository statsRepository;
+
+    @BeforeAll
+    void saveHits() {
+        List<LocalDateTime> instants = List.of(
+                DAY.minusDays(1).withHour(23).withMinute(59).withSecond(59),
+                DAY,
+                DAY.withSecond(30),
+                DAY.withSecond(59),
+                DAY.withMinute(1),
+                DAY.withMinute(1).withSecond(1),
+                DAY.withMinute(5),
+                DAY.withHour(12),
+                DAY.withHour(12).withSecond(45),
+                DAY.withHour(23).withMinute(59).withSecond(59),
+                DAY.plusDays(1),
+                DAY.plusDays(1).withSecond(1),
+                DAY.plusDays(1).withHour(6).withMinute(30),
+                DAY.plusDays(2),
+                DAY.plusDays(2).withHour(10).withMinute(30).withSecond(15),
+                DAY.plusDays(3).withSecond(1));
+        List<EndpointHitDto> hits = new ArrayList<>();
+        for (int i = 0; i < instants.size(); i++) {
+            for (int copy = 0; copy <= i % 3; copy++) {
+                hits.add(new EndpointHitDto(copy == 0 ? "ewm-main-service" : "ewm-admin",
+                        URIS.get((i + copy) % URIS.size()), "10.0.0." + copy, instants.get(i)));
+            }
+        }
+        statsService.saveHits(hits);
+    }
+
+    @ParameterizedTest(name = "{0} .. {1}")
+    @MethodSource("ranges")
+    void rollupCountsMatchRawHits(LocalDateTime start, LocalDateTime end) {
+        assertThat(hitRollupRepository.countHits(start, end, null))
+                .containsExactlyInAnyOrderElementsOf(statsRepository.findAllHitsWithoutUrls(start, end));
+
+        List<String> uris = List.of("/events/1", "/events/2");
+        List<ViewStats> expected = statsRepository.findAllHitsWithUrls(uris, start, end);
+        assertThat(hitRollupRepository.countHits(start, end, uris)).containsExactlyInAnyOrderElementsOf(expected);
+    }
+
+    static Stream<Arguments> ranges() {
+        return Stream.of(
+                // shorter than a minute, inside one minute and across a minute boundary
+                Arguments.of(DAY.withSecond(10), DAY.withSecond(50)),
+                Arguments.of(DAY.withSecond(30), DAY.withMinute(1).withSecond(1)),
+                // a single instant on a hit
+                Arguments.of(DAY, DAY),
+                // bounds exactly on minutes, end inclusive
+                Arguments.of(DAY.withMinute(1), DAY.withMinute(5)),
+                // shorter than a day with partial minutes at both edges
+                Arguments.of(DAY.withSecond(30), DAY.withHour(12).withSecond(30)),
+                Arguments.of(DAY.minusDays(1).withHour(23).withMinute(59).withSecond(30), DAY.withHour(12)),
+                // bounds exactly on days
+                Arguments.of(DAY, DAY.plusDays(1)),
+                Arguments.of(DAY, DAY.plusDays(2)),
+                // several days with partial minutes and seconds at the edges
+                Arguments.of(DAY.minusDays(1).withHour(23).withMinute(59).withSecond(30), DAY.plusDays(2)),
+                Arguments.of(DAY.withSecond(59), DAY.plusDays(2).withHour(10).withMinute(30).withSecond(15)),
+                Arguments.of(DAY.withMinute(1).withSecond(1), DAY.plusDays(1).withHour(6).withMinute(29)),
+                // everything, and a range with no hits
+                Arguments.of(DAY.minusDays(5), DAY.plusDays(5)),
+                Arguments.of(DAY.plusDays(10), DAY.plusDays(11)));
+    }
+}
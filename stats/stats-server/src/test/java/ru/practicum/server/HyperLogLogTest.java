@@ -0,0 +1,73 @@
+package ru.practicum.server;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class HyperLogLogTest {
+    private static final double STANDARD_ERROR = 1.04 / Math.sqrt(HyperLogLog.REGISTERS);
+
+    @Test
+    void smallCardinalitiesAreExact() {
+        HyperLogLog sketch = new HyperLogLog();
+        assertThat(sketch.estimate()).isZero();
+
+        for (int count = 1; count <= 30; count++) {
+            sketch.add(ip(count));
+            // repeated visitors are not counted twice
+            sketch.add(ip(count));
+
+            assertThat(sketch.estimate()).as("count=%d", count).isEqualTo(count);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {10_000, 30_000, 100_000})
+    void largeCardinalitiesAreWithinThreeStandardErrors(int count) {
+        HyperLogLog sketch = new HyperLogLog();
+        for (int i = 0; i < count; i++) {
+            sketch.add(ip(i));
+        }
+
+        assertThat((double) sketch.estimate()).isCloseTo(count, within(3 * STANDARD_ERROR * count));
+    }
+
+    @Test
+    void mergedSketchesEqualSketchOfUnion() {
+        // two days with overlapping visitors, stored the way HitSketchRepository keeps them
+        Map<Integer, Integer> firstDay = registers(0, 6_000);
+        Map<Integer, Integer> secondDay = registers(4_000, 15_000);
+        HyperLogLog merged = new HyperLogLog();
+        firstDay.forEach(merged::merge);
+        secondDay.forEach(merged::merge);
+
+        HyperLogLog union = new HyperLogLog();
+        for (int i = 0; i < 15_000; i++) {
+            union.add(ip(i));
+        }
+
+        assertThat(merged.estimate()).isEqualTo(union.estimate());
+        // merging is idempotent, so a day read twice changes nothing
+        secondDay.forEach(merged::merge);
+        assertThat(merged.estimate()).isEqualTo(union.estimate());
+    }
+
+    private static Map<Integer, Integer> registers(int from, int to) {
+        Map<Integer, Integer> registers = new HashMap<>();
+        for (int i = from; i < to; i++) {
+            long hash = HyperLogLog.hash(ip(i));
+            registers.merge(HyperLogLog.registerIndex(hash), HyperLogLog.registerRank(hash), Math::max);
+        }
+        return registers;
+    }
+
+    private static String ip(int i) {
+        return "10." + (i >>> 16) + "." + ((i >>> 8) & 0xff) + "." + (i & 0xff);
+    }
+}